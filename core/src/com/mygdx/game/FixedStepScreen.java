@@ -0,0 +1,23 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Screen;
+
+/**
+ * A screen whose simulation is advanced by the game in fixed steps, separately from drawing it.
+ */
+public interface FixedStepScreen extends Screen {
+
+    /**
+     * Advances the simulation by one step.
+     *
+     * @param delta the length of the step in seconds
+     */
+    void update(float delta);
+
+    /**
+     * Draws the screen without changing its state.
+     *
+     * @param alpha how far between the last two steps to draw, from 0 (the previous step) to 1 (the latest step)
+     */
+    void draw(float alpha);
+}
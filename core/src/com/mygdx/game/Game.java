@@ -1,5 +1,8 @@
 package com.mygdx.game;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
 import com.mygdx.game.assets.Assets;
 import com.mygdx.game.battle.BattleParameters;
 import com.mygdx.game.battle.BattleScreen;
@@ -15,6 +18,16 @@ import java.io.IOException;
  */
 public class Game extends com.badlogic.gdx.Game {
 
+    /**
+     * The length of each simulation step in seconds.
+     */
+    public static final float STEP_TIME = 1 / 60f;
+
+    /**
+     * The longest frame that is simulated, so a stall doesn't cause a burst of catch-up steps.
+     */
+    private static final float MAX_FRAME_TIME = 0.25f;
+
     /**
      * The friendly party.
      */
@@ -67,11 +80,31 @@ public class Game extends com.badlogic.gdx.Game {
      */
     public static WorldScreen worldScreen;
 
+    /**
+     * The sprite batch and screen camera shared by every screen.
+     */
+    public RenderContext renderContext;
+
+    /**
+     * Draws the fades and cross-fades between screens.
+     */
+    public ScreenTransition transition;
+
+    /**
+     * The battle screen, created for the first battle and reset for each one after it.
+     */
+    private BattleScreen battleScreen;
+
     /**
      * Whether the last battle was won by the player.
      */
     public boolean wonBattle;
 
+    /**
+     * The time elapsed that hasn't yet been simulated.
+     */
+    private float accumulator;
+
     /**
      * Called when the game starts to load assets and display the game.
      */
@@ -79,8 +112,45 @@ public class Game extends com.badlogic.gdx.Game {
     public void create() {
         loadFiles();
         Assets.load();
+        renderContext = new RenderContext();
+        transition = new ScreenTransition();
         wonBattle = false;
         setScreen(new StartScreen(this));
+        transition.fadeIn(Color.BLACK, ScreenTransition.FADE_IN_TIME);
+    }
+
+    /**
+     * Advances the assets loading in the background and the current screen in fixed steps for the time elapsed since
+     * the last frame, then draws it. Screens that don't use fixed steps are rendered as normal.
+     */
+    @Override
+    public void render() {
+        InputHandler.latchKeys();
+        Assets.update();
+
+        Screen current = getScreen();
+        if (current instanceof FixedStepScreen) {
+            accumulator += Math.min(Gdx.graphics.getDeltaTime(), MAX_FRAME_TIME);
+            while (accumulator >= STEP_TIME && getScreen() == current) {
+                ((FixedStepScreen) current).update(STEP_TIME);
+                InputHandler.clearLatchedKeys();
+                accumulator -= STEP_TIME;
+            }
+
+            // A step may have changed the screen, in which case the new screen starts from its own first step.
+            if (getScreen() != current) {
+                accumulator = 0;
+                current = getScreen();
+            }
+        }
+
+        if (current instanceof FixedStepScreen) {
+            ((FixedStepScreen) current).draw(accumulator / STEP_TIME);
+        } else if (current != null) {
+            current.render(Gdx.graphics.getDeltaTime());
+            InputHandler.clearLatchedKeys();
+        }
+        transition.render(renderContext, Gdx.graphics.getDeltaTime());
     }
 
     /**
@@ -104,6 +174,7 @@ public class Game extends com.badlogic.gdx.Game {
      */
     public void returnToWorld(boolean won) {
         wonBattle = won;
+        startCrossFade();
         setScreen(worldScreen);
     }
 
@@ -113,15 +184,34 @@ public class Game extends com.badlogic.gdx.Game {
     @Override
     public void dispose() {
         super.dispose();
+        transition.dispose();
+        renderContext.dispose();
+    }
+
+    /**
+     * Re-sizes the shared screen camera and the current screen.
+     *
+     * @param width  the new width
+     * @param height the new height
+     */
+    @Override
+    public void resize(int width, int height) {
+        renderContext.resize(width, height);
+        transition.resize(width, height);
+        super.resize(width, height);
     }
 
     /**
-     * Creates a new battle and sets the battle screen as the current screen.
+     * Starts a new battle on the battle screen and sets it as the current screen.
      *
      * @param battleParams the battle parameters
      */
     public void newBattle(BattleParameters battleParams) {
-        BattleScreen battleScreen = new BattleScreen(this, battleParams);
+        startCrossFade();
+        if (battleScreen == null) {
+            battleScreen = new BattleScreen(this);
+        }
+        battleScreen.reset(battleParams);
         setScreen(battleScreen);
     }
 
@@ -132,14 +222,27 @@ public class Game extends com.badlogic.gdx.Game {
         worldScreen = new WorldScreen(this);
         setScreen(worldScreen);
         setObjective();
+        Assets.preloadSegment(segment);
     }
 
     /**
      * Used when switching to the win screen.
      */
     public void winScreen() {
-        WinScreen winScreen = new WinScreen();
+        WinScreen winScreen = new WinScreen(renderContext);
         setScreen(winScreen);
+        transition.fadeIn(Color.BLACK, ScreenTransition.FADE_IN_TIME);
+    }
+
+    /**
+     * Captures the current screen to cross-fade from it to the next screen set, if the current screen can be drawn
+     * without being updated.
+     */
+    private void startCrossFade() {
+        Screen current = getScreen();
+        if (current instanceof FixedStepScreen) {
+            transition.crossFade((FixedStepScreen) current, ScreenTransition.CROSS_FADE_TIME);
+        }
     }
 
     /**
@@ -1,14 +1,19 @@
 package com.mygdx.game;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.mygdx.game.assets.Assets;
 import com.mygdx.game.battle.BattleParameters;
-import com.mygdx.game.entity.Character;
-import com.mygdx.game.entity.NPC;
-import com.mygdx.game.entity.RoboNPC;
-import com.mygdx.game.entity.SallyNPC;
+import com.mygdx.game.entity.EntityFactory;
+import com.mygdx.game.entity.Interaction;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.RoboInteraction;
+import com.mygdx.game.entity.SallyInteraction;
+import com.mygdx.game.entity.systems.WanderSystem;
+import com.mygdx.game.ui.UILoading;
 import com.mygdx.game.ui.UIManager;
+import com.mygdx.game.ui.UIMinimap;
 import com.mygdx.game.ui.UIObjective;
 import com.mygdx.game.ui.UIScore;
 import com.mygdx.game.ui.UIShop;
@@ -18,6 +23,11 @@ import com.mygdx.game.ui.UIShop;
  */
 public class GameWorld {
 
+    /**
+     * How far shop keepers wander from where they are placed, in tiles.
+     */
+    private static final int SALLY_WANDER_RADIUS = 2;
+
     /**
      * The parent game.
      */
@@ -41,7 +51,12 @@ public class GameWorld {
     /**
      * The NPC currently being interacted with.
      */
-    private NPC interactingNPC;
+    private Entity interactingNPC;
+
+    /**
+     * What happens when interacting with the current NPC.
+     */
+    private Interaction interaction;
 
     /**
      * The current battle parameters.
@@ -53,6 +68,11 @@ public class GameWorld {
      */
     private int battleChance;
 
+    /**
+     * The minimap shown in the corner of the overworld.
+     */
+    private UIMinimap minimap;
+
     /**
      * Creates a new GameWorld with the specified game parent.
      *
@@ -68,17 +88,31 @@ public class GameWorld {
         /**
          * CHANGE O5: Positioned NPCs in each segment.
          */
-        level.characters.add(new SallyNPC(level, new Vector2(84, 59)));
-        level.characters.add(new SallyNPC(level, new Vector2(47, 49)));
-        level.characters.add(new SallyNPC(level, new Vector2(21, 55)));
-        level.characters.add(new SallyNPC(level, new Vector2(59, 77)));
-        level.characters.add(new SallyNPC(level, new Vector2(89, 107)));
-        level.characters.add(new SallyNPC(level, new Vector2(118, 87)));
-        level.characters.add(new SallyNPC(level, new Vector2(157, 98)));
-        level.characters.add(new SallyNPC(level, new Vector2(211, 74)));
-        level.characters.add(new RoboNPC(level, new Vector2(222, 83)));
+        addSally(84, 59);
+        addSally(47, 49);
+        addSally(21, 55);
+        addSally(59, 77);
+        addSally(89, 107);
+        addSally(118, 87);
+        addSally(157, 98);
+        addSally(211, 74);
+        level.addEntity(EntityFactory.createNPC(222, 83, Assets.roboWalkingTextures, new RoboInteraction()));
         uiManager.addUIComponent(new UIScore());
         uiManager.addUIComponent(new UIObjective());
+        uiManager.addUIComponent(new UILoading(level));
+        minimap = new UIMinimap(level);
+        uiManager.addUIComponent(minimap);
+    }
+
+    /**
+     * Adds a shop keeper to the level at the specified tile. Shop keepers wander around the tile they are placed on.
+     *
+     * @param tileX the x coordinate of the tile
+     * @param tileY the y coordinate of the tile
+     */
+    private void addSally(int tileX, int tileY) {
+        Entity sally = EntityFactory.createNPC(tileX, tileY, Assets.sallyWalkingTextures, new SallyInteraction());
+        level.addEntity(EntityFactory.addWander(sally, SALLY_WANDER_RADIUS));
     }
 
     /**
@@ -98,13 +132,20 @@ public class GameWorld {
             case FREEROAM:
                 level.stopInput = false;
 
-                if (level.player.getState() == Character.CharacterState.TRANSITIONING && MathUtils.random(battleChance--) == 0) {
+                if (level.isLoading()) {
+                    // Nothing can happen until the player has finished walking through the door.
+                    break;
+                }
+
+                if (Mappers.movement.get(level.player).moving && MathUtils.random(battleChance--) == 0) {
                     triggerEncounter();
                 } else if (InputHandler.isActJustPressed()) {
-                    interactingNPC = level.player.interactingNPC;
+                    interactingNPC = Mappers.player.get(level.player).facing;
                     level.stopInput = true;
                     if (interactingNPC != null) {
-                        interactingNPC.initializeInteraction(delta, uiManager);
+                        interaction = Mappers.interaction.get(interactingNPC).interaction;
+                        WanderSystem.pause(interactingNPC, WanderSystem.INTERACTION_COOLDOWN);
+                        interaction.begin(uiManager);
                         gameState = GameState.INTERACTION;
                     } else {
                         uiManager.openPartyMenu();
@@ -123,8 +164,8 @@ public class GameWorld {
                 }
                 break;
             case INTERACTION:
-                if (!interactingNPC.updateInteracting(delta)) {
-                    interactingNPC.action(this);
+                if (!interaction.update(delta)) {
+                    interaction.end(this, interactingNPC);
                     if (gameState != GameState.SHOP_MENU)
                         gameState = GameState.FREEROAM;
                 }
@@ -134,7 +175,8 @@ public class GameWorld {
                     uiManager.addNotification("You won the battle!");
                 } else {
                     Game.party.setHealths(1);
-                    level.player.setCurrentTile(level.exits[Game.segment - 1]);
+                    Vector2 entrance = level.getSegmentEntrance(Game.segment);
+                    level.placeEntity(level.player, (int) entrance.x, (int) entrance.y);
                     uiManager.addNotification("You lost the battle! You have been moved backwards.");
                 }
                 gameState = GameState.FREEROAM;
@@ -191,6 +233,13 @@ public class GameWorld {
         gameState = GameState.SHOP_MENU;
     }
 
+    /**
+     * Cleans up resources used by this GameWorld.
+     */
+    public void dispose() {
+        minimap.dispose();
+    }
+
     /**
      * Represents the current state of the game.
      */
@@ -2,6 +2,7 @@ package com.mygdx.game;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.IntSet;
 
 /**
  * CHANGE N2: Refactored InputHandler class.
@@ -51,6 +52,37 @@ public class InputHandler {
      */
     private static final int[] ESC = {Input.Keys.Q, Input.Keys.ESCAPE, Input.Keys.X};
 
+    /**
+     * Every set of keys that is checked for presses.
+     */
+    private static final int[][] ALL_KEYS = {UP, DOWN, LEFT, RIGHT, ACT, ESC};
+
+    /**
+     * The keys pressed since the last update. A frame may run several fixed updates or none, so presses are latched
+     * until an update has seen them rather than lasting exactly one frame.
+     */
+    private static final IntSet justPressedKeys = new IntSet();
+
+    /**
+     * Records the keys pressed this frame. Called once at the start of each frame.
+     */
+    public static void latchKeys() {
+        for (int[] keys : ALL_KEYS) {
+            for (int key : keys) {
+                if (Gdx.input.isKeyJustPressed(key)) {
+                    justPressedKeys.add(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the keys pressed so far. Called after each update, so each press is seen by only one update.
+     */
+    public static void clearLatchedKeys() {
+        justPressedKeys.clear();
+    }
+
     /**
      * Checks whether any of the keys from the specified list is pressed.
      *
@@ -74,7 +106,7 @@ public class InputHandler {
      */
     private static boolean anyKeyJustPressed(int[] possibleKeys) {
         for (int key : possibleKeys) {
-            if (Gdx.input.isKeyJustPressed(key)) {
+            if (justPressedKeys.contains(key)) {
                 return true;
             }
         }
@@ -1,18 +1,45 @@
 package com.mygdx.game;
 
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.math.Vector2;
-import com.mygdx.game.entity.Character;
-import com.mygdx.game.entity.Character.CharacterState;
-import com.mygdx.game.entity.Player;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.entity.Direction;
+import com.mygdx.game.entity.EntityFactory;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.TileMovementComponent;
+import com.mygdx.game.entity.systems.AnimationSystem;
+import com.mygdx.game.entity.systems.InteractionSystem;
+import com.mygdx.game.entity.systems.MovementSystem;
+import com.mygdx.game.entity.systems.PathFollowSystem;
+import com.mygdx.game.entity.systems.PlayerInputSystem;
+import com.mygdx.game.entity.systems.RenderSystem;
+import com.mygdx.game.entity.systems.SimulationLodSystem;
+import com.mygdx.game.entity.systems.WanderSystem;
+import com.mygdx.game.map.BinaryMap;
+import com.mygdx.game.map.BinaryMapFormat;
+import com.mygdx.game.map.BinaryMapLoader;
+import com.mygdx.game.map.ChunkedMap;
+import com.mygdx.game.map.FogOfWar;
+import com.mygdx.game.map.MapGrids;
+import com.mygdx.game.map.TiledMapChunkSource;
+import com.mygdx.game.trigger.DoorTrigger;
+import com.mygdx.game.trigger.Trigger;
+import com.mygdx.game.trigger.TriggerMap;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
- * The level class contains the map used by the game and stores all characters.
+ * The level class contains the map used by the game and the engine holding all characters.
  */
 public class Level {
 
@@ -22,24 +49,111 @@ public class Level {
     public static final int TILE_SIZE = 32;
 
     /**
-     * The world map.
+     * The TMX file the world map is made in.
+     */
+    public static final String MAP_FILE = "map.tmx";
+
+    /**
+     * The world map compiled to the binary map format by the desktop project's compileMaps task. This is the map the
+     * game loads; every build that ships the game compiles it first.
+     */
+    public static final String BINARY_MAP_FILE = "map." + BinaryMapFormat.EXTENSION;
+
+    /**
+     * Whether the TMX file may be loaded when the binary map hasn't been compiled, such as when running from an IDE
+     * during development. The TMX path copies every tile of the map into memory, so it is off unless a launcher turns
+     * it on.
+     */
+    public static boolean allowTmxMap = false;
+
+    /**
+     * Loads the binary world map. Platforms which can memory map files replace this before the game starts.
+     */
+    public static BinaryMapLoader mapLoader = new BinaryMapLoader();
+
+    /**
+     * The world map. Its tile layers are moved into the chunked map when loaded, leaving the tile sets and object
+     * layers.
      */
     public TiledMap map;
 
     /**
-     * The collision layer on the world map.
+     * The tile layers of the world map, loaded in chunks around the player.
      */
-    private TiledMapTileLayer collisionLayer;
+    public ChunkedMap chunks;
 
     /**
-     * The player.
+     * The tiles of the map the player has explored.
+     */
+    public FogOfWar fog;
+
+    /**
+     * The number of door layers on the world map (named door1 to door7).
+     */
+    public static final int DOOR_COUNT = 7;
+
+    /**
+     * The index of the collision layer on the world map.
+     */
+    private int collisionLayer;
+
+    /**
+     * The indices of the door layers on the world map, indexed by door number. Missing or removed doors are set to -1.
+     */
+    private int[] doorLayers;
+
+    /**
+     * The tiles covered by each door, as y * width + x, indexed by door number. Missing or removed doors are null.
+     */
+    private IntArray[] doorTiles;
+
+    /**
+     * The width and height of the map in tiles.
+     */
+    private int mapWidth, mapHeight;
+
+    /**
+     * One bit per tile, set if the tile is blocked by the collision layer or a door. Indexed by y * mapWidth + x.
+     */
+    private Bits blockedTiles;
+
+    /**
+     * Counts changes to the blocked tile grid, so cached paths can tell when they are out of date.
+     */
+    private int collisionVersion;
+
+    /**
+     * The terrain flags of each tile, combined from every tile layer except the doors. Indexed by y * mapWidth + x.
+     */
+    private byte[] terrain;
+
+    /**
+     * The segment each tile belongs to, or -1 if it can't be reached from any segment entrance. Indexed by
+     * y * mapWidth + x.
+     */
+    private byte[] segments;
+
+    /**
+     * One bit per tile, set on the tile the player enters each segment on. Wandering characters never choose these as
+     * goals, so they don't stand where a door puts the player. Indexed by y * mapWidth + x.
+     */
+    private Bits entranceTiles;
+
+    /**
+     * The character standing on or moving into each tile, or null if the tile is free. Indexed by y * mapWidth + x.
+     */
+    private Entity[] occupants;
+
+    /**
+     * The engine holding every character in the world (including the player) and the systems which update them.
      */
-    public Player player;
+    public Engine engine;
+
 
     /**
-     * The list of all world characters (including the player).
+     * The player.
      */
-    public ArrayList<Character> characters;
+    public Entity player;
 
     /**
      * Whether input is blocked.
@@ -52,64 +166,286 @@ public class Level {
     public Vector2 mapBounds;
 
     /**
-     * The doors for entering for advancing map segment.
+     * How far from the requested tile a character placed onto an occupied tile may be moved, in tiles.
      */
-    public Vector2[] doors = {new Vector2(58, 36), new Vector2(20, 35), new Vector2(46, 69), new Vector2(47, 69),
-            new Vector2(78, 96), new Vector2(119, 65), new Vector2(147, 89), new Vector2(201, 65)};
+    private static final int PLACE_SEARCH_RADIUS = 3;
 
     /**
-     * Where each of the doors in the doors array teleports the player to.
+     * The tile the player starts the game on.
      */
-    public Vector2[] exits = {new Vector2(48, 49), new Vector2(22, 55), new Vector2(59, 76), new Vector2(59, 76),
-            new Vector2(89, 106), new Vector2(119, 87), new Vector2(157, 97), new Vector2(211, 73)};
+    private static final Vector2 START_TILE = new Vector2(85, 59);
 
+    /**
+     * The doors and other triggers on the map.
+     */
+    private TriggerMap triggers;
+
+    /**
+     * Loads the next segment in the background as the player approaches its door.
+     */
+    private SegmentPreloader preloader;
+
+    /**
+     * The door the player has walked through while the segment behind it is still loading, or null if the player
+     * isn't waiting on one.
+     */
+    private DoorTrigger pendingDoor;
 
     /**
      * Creates a new Level by loading the map and setting up the player.
      */
     public Level() {
-        map = new TmxMapLoader().load("map.tmx");
-        collisionLayer = (TiledMapTileLayer) map.getLayers().get("Collision");
+        FileHandle binaryMap = Gdx.files.internal(BINARY_MAP_FILE);
+        if (binaryMap.exists()) {
+            BinaryMap loaded = mapLoader.load(binaryMap);
+            map = loaded.getMap();
+            chunks = new ChunkedMap(loaded.getSource());
+            blockedTiles = loaded.getBlockedTiles();
+            terrain = loaded.getTerrain();
+        } else if (allowTmxMap) {
+            Gdx.app.log("Level", BINARY_MAP_FILE + " not found, loading " + MAP_FILE + ". Run compileMaps to build it.");
+            map = new TmxMapLoader().load(MAP_FILE);
+            chunks = new ChunkedMap(new TiledMapChunkSource(map));
+        } else {
+            throw new GdxRuntimeException(BINARY_MAP_FILE + " not found. Run the compileMaps task to build it from "
+                    + MAP_FILE + ".");
+        }
+        collisionLayer = chunks.getLayerIndex(MapGrids.COLLISION_LAYER);
 
         MapProperties prop = map.getProperties();
-        int mapWidth = prop.get("width", Integer.class);
-        int mapHeight = prop.get("height", Integer.class);
+        mapWidth = prop.get("width", Integer.class);
+        mapHeight = prop.get("height", Integer.class);
 
         int tileWidth = prop.get("tilewidth", Integer.class);
         int tileHeight = prop.get("tileheight", Integer.class);
         mapBounds = new Vector2(mapWidth * tileWidth, mapHeight * tileHeight);
 
-        player = new Player(this, new Vector2(85, 59));
-        characters = new ArrayList<Character>();
-        characters.add(player);
+        doorLayers = MapGrids.findDoorLayers(chunks.getSource(), DOOR_COUNT);
+        doorTiles = MapGrids.findDoorTiles(chunks.getSource(), doorLayers);
+        if (blockedTiles == null) {
+            blockedTiles = MapGrids.buildBlockedTiles(chunks.getSource(), collisionLayer, doorLayers);
+            terrain = MapGrids.buildTerrain(chunks.getSource());
+        }
+        occupants = new Entity[mapWidth * mapHeight];
+        triggers = new TriggerMap(map.getLayers().get(TriggerMap.LAYER_NAME), mapWidth);
+        buildSegmentGrid();
+        buildEntranceTiles();
+        preloader = new SegmentPreloader(chunks);
+        fog = new FogOfWar(mapWidth, mapHeight);
+
+        engine = new Engine();
+        engine.addSystem(new SimulationLodSystem(this, 0));
+        engine.addSystem(new PlayerInputSystem(this, 1));
+        engine.addSystem(new WanderSystem(this, 2));
+        engine.addSystem(new PathFollowSystem(this, 3));
+        engine.addSystem(new MovementSystem(this, 4));
+        engine.addSystem(new AnimationSystem(this, 5));
+        engine.addSystem(new InteractionSystem(this, 6));
+        engine.addSystem(new RenderSystem(this));
+
+        player = EntityFactory.createPlayer((int) START_TILE.x, (int) START_TILE.y);
+        addEntity(player);
         stopInput = false;
     }
 
     /**
-     * Updates the state of this Level by updating each of its characters.
+     * Updates the state of this Level by updating the systems of its engine. While the player is waiting on a door
+     * the world is held still until the segment behind it has loaded.
      *
      * @param delta the time elapsed since the last update
      */
     public void update(float delta) {
-        characters.sort(new Character.CharacterComparator());
-        for (Character character : characters) {
-            character.update(delta);
-            if (character instanceof Player) {
-                for (int i = 0; i < doors.length; i++) {
-                    if (character.getCurrentTile().equals(doors[i]) && character.getState() != CharacterState.TRANSITIONING) {
-                        character.setCurrentTile(exits[i]);
-                        Game.segment += 1;
-                        Game.setObjective();
-                    }
-                }
+        TileMovementComponent playerMovement = Mappers.movement.get(player);
+        chunks.update(playerMovement.tileX, playerMovement.tileY);
+
+        if (pendingDoor != null) {
+            preloader.preload(pendingDoor);
+            if (!preloader.isReady(pendingDoor)) {
+                return;
             }
+            DoorTrigger door = pendingDoor;
+            pendingDoor = null;
+            enter(door);
+        } else {
+            preloader.update(triggers.getDoor(Game.segment + 1), playerMovement.tileX, playerMovement.tileY);
         }
 
+        engine.update(delta);
+        fog.update(playerMovement.tileX, playerMovement.tileY);
+
         // Remove closed door.
         if (Game.objective.isComplete()) {
-            map.getLayers().remove(map.getLayers().get("door" + (Game.segment + 1)));
+            removeDoor(Game.segment + 1);
+        }
+    }
+
+    /**
+     * Called when a character finishes moving onto a tile, activating any trigger on that tile.
+     *
+     * @param entity the character
+     */
+    public void entityArrived(Entity entity) {
+        TileMovementComponent movement = Mappers.movement.get(entity);
+        Trigger trigger = triggers.get(movement.tileX, movement.tileY);
+        if (trigger != null) {
+            trigger.activate(this, entity);
+        }
+    }
+
+    /**
+     * Moves the player through a door straight away if the segment behind it has been preloaded, otherwise waits for
+     * it to finish loading.
+     *
+     * @param door the door the player walked onto
+     */
+    public void enterSegment(DoorTrigger door) {
+        if (preloader.isReady(door)) {
+            enter(door);
+        } else {
+            pendingDoor = door;
+            preloader.preload(door);
+        }
+    }
+
+    /**
+     * Moves the player through a door and releases the assets of the segment they left.
+     *
+     * @param door the door
+     */
+    private void enter(DoorTrigger door) {
+        door.enter(this, player);
+        Assets.unloadSegment(door.getSegment() - 1);
+    }
+
+    /**
+     * @return true if the player is waiting on the next segment to finish loading
+     */
+    public boolean isLoading() {
+        return pendingDoor != null;
+    }
+
+    /**
+     * Gets the tile the player enters the specified segment on.
+     *
+     * @param segment the segment
+     * @return the tile the player enters the segment on
+     */
+    public Vector2 getSegmentEntrance(int segment) {
+        DoorTrigger door = triggers.getDoor(segment);
+        return door != null ? door.getExit() : START_TILE;
+    }
+
+    /**
+     * Marks the tile the player enters each segment on.
+     */
+    private void buildEntranceTiles() {
+        entranceTiles = new Bits(mapWidth * mapHeight);
+        for (int segment = 0; segment <= DOOR_COUNT; segment++) {
+            Vector2 entrance = getSegmentEntrance(segment);
+            entranceTiles.set((int) entrance.y * mapWidth + (int) entrance.x);
+        }
+    }
+
+    /**
+     * Builds the segment grid by flood filling from the entrance of each segment while every door is still closed.
+     */
+    private void buildSegmentGrid() {
+        segments = new byte[mapWidth * mapHeight];
+        Arrays.fill(segments, (byte) -1);
+
+        IntArray queue = new IntArray();
+        for (int segment = 0; segment <= DOOR_COUNT; segment++) {
+            Vector2 entrance = getSegmentEntrance(segment);
+            int start = (int) entrance.y * mapWidth + (int) entrance.x;
+            if (segment > 0 && entrance == START_TILE || segments[start] != -1) {
+                continue;
+            }
+
+            segments[start] = (byte) segment;
+            queue.add(start);
+            while (queue.size > 0) {
+                int index = queue.pop();
+                int x = index % mapWidth;
+                int y = index / mapWidth;
+                for (Direction direction : Direction.values()) {
+                    int nextX = x + direction.getDeltaX();
+                    int nextY = y + direction.getDeltaY();
+                    int next = nextY * mapWidth + nextX;
+                    if (!isTileBlocked(nextX, nextY) && segments[next] == -1) {
+                        segments[next] = (byte) segment;
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the specified door from the map, unblocking the tiles it covered.
+     *
+     * @param door the number of the door to remove
+     */
+    public void removeDoor(int door) {
+        if (door < 1 || door > DOOR_COUNT || doorLayers[door] == -1) {
+            return;
+        }
+
+        chunks.removeLayer(doorLayers[door]);
+        doorLayers[door] = -1;
+        collisionVersion++;
+
+        // Only the tiles covered by this door can change.
+        IntArray tiles = doorTiles[door];
+        for (int i = 0; i < tiles.size; i++) {
+            int index = tiles.get(i);
+            if (!isTileBlockedByLayers(index % mapWidth, index / mapWidth)) {
+                blockedTiles.clear(index);
+            }
         }
+        doorTiles[door] = null;
+    }
+
+    /**
+     * @return a number that changes whenever tiles stop being blocked
+     */
+    public int getCollisionVersion() {
+        return collisionVersion;
+    }
 
+    /**
+     * Copies the blocked and occupied tiles into a snapshot. The blocked tiles are only copied if they have changed
+     * since the snapshot was last taken.
+     *
+     * @param snapshot the snapshot to fill in
+     */
+    public void takeSnapshot(LevelSnapshot snapshot) {
+        snapshot.width = mapWidth;
+        snapshot.height = mapHeight;
+        snapshot.terrain = terrain;
+        snapshot.entranceTiles = entranceTiles;
+        if (snapshot.collisionVersion != collisionVersion) {
+            snapshot.blockedTiles.clear();
+            snapshot.blockedTiles.or(blockedTiles);
+            snapshot.collisionVersion = collisionVersion;
+        }
+
+        snapshot.occupiedTiles.clear();
+        for (Entity entity : engine.getEntities()) {
+            TileMovementComponent movement = Mappers.movement.get(entity);
+            snapshot.occupiedTiles.set(movement.tileY * mapWidth + movement.tileX);
+            snapshot.occupiedTiles.set(movement.targetY * mapWidth + movement.targetX);
+        }
+    }
+
+    /**
+     * Gets the segment a tile belongs to. Segments are the areas of the map separated by the doors.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return the segment, or -1 if the tile is outside the map or can't be reached from any segment entrance
+     */
+    public int getSegment(int x, int y) {
+        return isInBounds(x, y) ? segments[y * mapWidth + x] : -1;
     }
 
     /**
@@ -120,7 +456,32 @@ public class Level {
      * @return true if the specified tile is water, false if not
      */
     public boolean checkWater(int x, int y) {
-        return ((TiledMapTileLayer) map.getLayers().get(0)).getCell(x, y).getTile().getProperties().containsKey("water");
+        return hasTerrain(x, y, Terrain.WATER);
+    }
+
+    /**
+     * Gets the terrain flags of a tile.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return the terrain flags of the tile, or 0 if it is outside the map
+     * @see Terrain
+     */
+    public int getTerrain(int x, int y) {
+        return isInBounds(x, y) ? terrain[y * mapWidth + x] : 0;
+    }
+
+    /**
+     * Checks whether a tile has all of the specified terrain flags.
+     *
+     * @param x     the x coordinate of the tile
+     * @param y     the y coordinate of the tile
+     * @param flags the terrain flags to check for
+     * @return true if the tile has all of the flags
+     * @see Terrain
+     */
+    public boolean hasTerrain(int x, int y, int flags) {
+        return (getTerrain(x, y) & flags) == flags;
     }
 
     /**
@@ -135,25 +496,57 @@ public class Level {
     }
 
     /**
-     * Checks whether the specified tile is blocked.
+     * Checks whether the specified tile is blocked. Tiles outside the map are always blocked.
      *
      * @param x the x coordinate of the tile
      * @param y the y coordinate of the tile
      * @return true if the specified tile is blocked
      */
-    private boolean isTileBlocked(int x, int y) {
+    public boolean isTileBlocked(int x, int y) {
+        if (!isInBounds(x, y)) {
+            return true;
+        }
+
+        return blockedTiles.get(y * mapWidth + x);
+    }
+
+    /**
+     * Checks whether the specified tile is blocked by reading the collision and door layers directly.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the specified tile is blocked
+     */
+    private boolean isTileBlockedByLayers(int x, int y) {
         /**
          * CHANGE M11: Adjusted the collision system to only apply to one layer.
          */
-        // Check each door layer.
-        for (int i = 1; i < 8; i++) {
-            TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get("door" + i);
-            if (layer != null && layer.getCell(x, y) != null) {
-                return true;
-            }
-        }
+        return MapGrids.isTileBlocked(chunks.getSource(), collisionLayer, doorLayers, x, y);
+    }
+
+    /**
+     * Checks whether the specified tile lies within the map.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the tile is on the map
+     */
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < mapWidth && y < mapHeight;
+    }
 
-        return collisionLayer.getCell(x, y) != null;
+    /**
+     * @return the width of the map in tiles
+     */
+    public int getMapWidth() {
+        return mapWidth;
+    }
+
+    /**
+     * @return the height of the map in tiles
+     */
+    public int getMapHeight() {
+        return mapHeight;
     }
 
     /**
@@ -164,13 +557,7 @@ public class Level {
      * @return true if the specified tile is occupied
      */
     private boolean isTileOccupied(int x, int y) {
-        for (Character character : characters) {
-            if ((int) character.getCurrentTile().x == x && (int) character.getCurrentTile().y == y || (int) character.targetTile.x == x && (int) character.targetTile.y == y) {
-                return true;
-            }
-        }
-
-        return false;
+        return isInBounds(x, y) && occupants[y * mapWidth + x] != null;
     }
 
     /**
@@ -180,14 +567,177 @@ public class Level {
      * @param tileY the y coordinate of the tile
      * @return the character at the specified tile or null if there is no character there
      */
-    public Character getCharacterAt(float tileX, float tileY) {
-        if (characters != null) {
-            for (Character c : characters) {
-                if (c.getCurrentTile().equals(new Vector2(tileX, tileY)))
-                    return c;
+    public Entity getEntityAt(int tileX, int tileY) {
+        if (!isInBounds(tileX, tileY)) {
+            return null;
+        }
+
+        // Characters moving into the tile also occupy it, but aren't standing on it yet.
+        Entity entity = occupants[tileY * mapWidth + tileX];
+        if (entity != null) {
+            TileMovementComponent movement = Mappers.movement.get(entity);
+            if (movement.tileX == tileX && movement.tileY == tileY) {
+                return entity;
             }
         }
         return null;
     }
 
+    /**
+     * Finds the characters whose position lies within the specified area, using the occupied tiles as a spatial index
+     * so only the tiles in the area are visited. Characters are added in depth order.
+     *
+     * @param x      the x coordinate of the bottom left of the area in pixels
+     * @param y      the y coordinate of the bottom left of the area in pixels
+     * @param width  the width of the area in pixels
+     * @param height the height of the area in pixels
+     * @param out    the list to add the characters to
+     */
+    public void getEntitiesInArea(float x, float y, float width, float height, List<Entity> out) {
+        // A moving character's position may be up to a tile away from the tile it is standing on.
+        int startX = Math.max(0, (int) Math.floor(x / TILE_SIZE) - 1);
+        int startY = Math.max(0, (int) Math.floor(y / TILE_SIZE) - 1);
+        int endX = Math.min(mapWidth - 1, (int) Math.floor((x + width) / TILE_SIZE) + 1);
+        int endY = Math.min(mapHeight - 1, (int) Math.floor((y + height) / TILE_SIZE) + 1);
+
+        for (int tileY = endY; tileY >= startY; tileY--) {
+            for (int tileX = startX; tileX <= endX; tileX++) {
+                Entity entity = getEntityAt(tileX, tileY);
+                if (entity != null) {
+                    TileMovementComponent movement = Mappers.movement.get(entity);
+                    if (movement.x >= x && movement.x < x + width && movement.y >= y && movement.y < y + height) {
+                        out.add(entity);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a character to this Level, marking its tile as occupied.
+     *
+     * @param entity the character to add
+     */
+    public void addEntity(Entity entity) {
+        engine.addEntity(entity);
+        TileMovementComponent movement = Mappers.movement.get(entity);
+        occupy(entity, movement.tileX, movement.tileY);
+        occupy(entity, movement.targetX, movement.targetY);
+    }
+
+    /**
+     * Removes a character from this Level, freeing any tiles it occupies.
+     *
+     * @param entity the character to remove
+     */
+    public void removeEntity(Entity entity) {
+        engine.removeEntity(entity);
+        TileMovementComponent movement = Mappers.movement.get(entity);
+        vacate(entity, movement.tileX, movement.tileY);
+        vacate(entity, movement.targetX, movement.targetY);
+    }
+
+    /**
+     * Moves a character straight to the specified tile, stopping any movement. If another character occupies the
+     * tile, the character is placed on the nearest free tile instead so two characters never share a tile. If there
+     * is no free tile nearby, the character is left where it is.
+     *
+     * @param entity the character
+     * @param tileX  the x coordinate of the tile
+     * @param tileY  the y coordinate of the tile
+     * @return true if the character was placed
+     */
+    public boolean placeEntity(Entity entity, int tileX, int tileY) {
+        int placeX = tileX, placeY = tileY;
+        if (!isTileFreeFor(entity, tileX, tileY, false)) {
+            int index = findFreeTileNear(entity, tileX, tileY);
+            if (index == -1) {
+                return false;
+            }
+            placeX = index % mapWidth;
+            placeY = index / mapWidth;
+        }
+
+        TileMovementComponent movement = Mappers.movement.get(entity);
+        vacate(entity, movement.tileX, movement.tileY);
+        vacate(entity, movement.targetX, movement.targetY);
+        movement.setTile(placeX, placeY);
+        occupy(entity, placeX, placeY);
+        return true;
+    }
+
+    /**
+     * Finds the nearest free tile to a tile, searching outwards in steps of one tile.
+     *
+     * @param entity the character to find a tile for
+     * @param tileX  the x coordinate of the tile
+     * @param tileY  the y coordinate of the tile
+     * @return the index of the free tile, or -1 if there is none within the search radius
+     */
+    private int findFreeTileNear(Entity entity, int tileX, int tileY) {
+        for (int distance = 1; distance <= PLACE_SEARCH_RADIUS; distance++) {
+            for (int dx = -distance; dx <= distance; dx++) {
+                int dy = distance - Math.abs(dx);
+                if (isTileFreeFor(entity, tileX + dx, tileY + dy, true)) {
+                    return (tileY + dy) * mapWidth + tileX + dx;
+                }
+                if (dy != 0 && isTileFreeFor(entity, tileX + dx, tileY - dy, true)) {
+                    return (tileY - dy) * mapWidth + tileX + dx;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether a character could be placed on a tile.
+     *
+     * @param entity       the character
+     * @param x            the x coordinate of the tile
+     * @param y            the y coordinate of the tile
+     * @param checkBlocked whether blocked tiles count as taken
+     * @return true if the tile is on the map and isn't occupied by another character
+     */
+    private boolean isTileFreeFor(Entity entity, int x, int y, boolean checkBlocked) {
+        if (!isInBounds(x, y) || (checkBlocked && isTileBlocked(x, y))) {
+            return false;
+        }
+        Entity occupant = occupants[y * mapWidth + x];
+        return occupant == null || occupant == entity;
+    }
+
+    /**
+     * Marks the specified tile as occupied by a character.
+     *
+     * @param entity the character occupying the tile
+     * @param x      the x coordinate of the tile
+     * @param y      the y coordinate of the tile
+     */
+    public void occupy(Entity entity, int x, int y) {
+        if (isInBounds(x, y)) {
+            occupants[y * mapWidth + x] = entity;
+        }
+    }
+
+    /**
+     * Frees the specified tile if it is occupied by the specified character.
+     *
+     * @param entity the character leaving the tile
+     * @param x      the x coordinate of the tile
+     * @param y      the y coordinate of the tile
+     */
+    public void vacate(Entity entity, int x, int y) {
+        if (isInBounds(x, y) && occupants[y * mapWidth + x] == entity) {
+            occupants[y * mapWidth + x] = null;
+        }
+    }
+
+    /**
+     * Cleans up resources used by this Level.
+     */
+    public void dispose() {
+        engine.getSystem(WanderSystem.class).dispose();
+        chunks.dispose();
+        map.dispose();
+    }
 }
@@ -0,0 +1,119 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.Bits;
+
+/**
+ * A copy of the blocked and occupied tiles of a level, which can be read from another thread while the level carries on
+ * changing. It is filled in by {@link Level#takeSnapshot(LevelSnapshot)}.
+ */
+public class LevelSnapshot {
+
+    /**
+     * The width and height of the level in tiles.
+     */
+    int width, height;
+
+    /**
+     * The tiles which were blocked, indexed by y * width + x.
+     */
+    final Bits blockedTiles = new Bits();
+
+    /**
+     * The tiles which were occupied by a character or which a character was moving onto, indexed by y * width + x.
+     */
+    final Bits occupiedTiles = new Bits();
+
+    /**
+     * The terrain flags of each tile. Terrain never changes once the level is loaded, so this is shared with the level.
+     */
+    byte[] terrain;
+
+    /**
+     * The tiles the player enters each segment on. These never change once the level is loaded, so this is shared
+     * with the level.
+     */
+    Bits entranceTiles;
+
+    /**
+     * The collision version of the level when the blocked tiles were copied, or -1 if they haven't been copied.
+     */
+    int collisionVersion = -1;
+
+    /**
+     * Checks whether a tile was blocked. Tiles outside the level are always blocked.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the tile was blocked
+     */
+    public boolean isTileBlocked(int x, int y) {
+        return !isInBounds(x, y) || blockedTiles.get(y * width + x);
+    }
+
+    /**
+     * Checks whether a tile was occupied by a character.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the tile was occupied
+     */
+    public boolean isTileOccupied(int x, int y) {
+        return isInBounds(x, y) && occupiedTiles.get(y * width + x);
+    }
+
+    /**
+     * Checks whether a tile is where the player enters a segment, either through a door or after losing a battle.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the tile is a segment entrance
+     */
+    public boolean isSegmentEntrance(int x, int y) {
+        return isInBounds(x, y) && entranceTiles.get(y * width + x);
+    }
+
+    /**
+     * Gets the terrain flags of a tile.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return the terrain flags of the tile, or 0 if it is outside the level
+     * @see Terrain
+     */
+    public int getTerrain(int x, int y) {
+        return isInBounds(x, y) ? terrain[y * width + x] : 0;
+    }
+
+    /**
+     * Checks whether a tile is inside the level.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the tile is inside the level
+     */
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * @return the width of the level in tiles
+     */
+    public int getMapWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of the level in tiles
+     */
+    public int getMapHeight() {
+        return height;
+    }
+
+    /**
+     * @return the collision version of the level when the blocked tiles were copied
+     * @see Level#getCollisionVersion()
+     */
+    public int getCollisionVersion() {
+        return collisionVersion;
+    }
+}
@@ -0,0 +1,76 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Holds the sprite batch and the screen camera shared by every screen. The game owns the only
+ * RenderContext and screens borrow it rather than creating batches of their own, so there is a single vertex buffer
+ * and shader however many screens and menus are created.
+ */
+public class RenderContext implements Disposable {
+
+    /**
+     * The sprite batch every screen draws on.
+     */
+    private SpriteBatch batch;
+
+    /**
+     * A camera mapping one unit to one window pixel, with the origin in the bottom left corner of the window.
+     */
+    private OrthographicCamera screenCamera;
+
+    /**
+     * Creates a new RenderContext sized to the window.
+     */
+    public RenderContext() {
+        batch = new SpriteBatch(1000);
+        screenCamera = new OrthographicCamera();
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    /**
+     * Sets the batch to draw in window pixels and begins it.
+     *
+     * @return the batch
+     */
+    public SpriteBatch beginScreen() {
+        batch.setProjectionMatrix(screenCamera.combined);
+        batch.begin();
+        return batch;
+    }
+
+    /**
+     * @return the sprite batch every screen draws on
+     */
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * @return the camera mapping one unit to one window pixel
+     */
+    public OrthographicCamera getScreenCamera() {
+        return screenCamera;
+    }
+
+    /**
+     * Re-sizes the screen camera to match the window.
+     *
+     * @param width  the new width
+     * @param height the new height
+     */
+    public void resize(int width, int height) {
+        screenCamera.setToOrtho(false, width, height);
+    }
+
+    /**
+     * Releases the batch, which also releases the shader it created.
+     */
+    @Override
+    public void dispose() {
+        batch.dispose();
+    }
+}
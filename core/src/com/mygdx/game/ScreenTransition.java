@@ -0,0 +1,153 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.mygdx.game.assets.Assets;
+
+/**
+ * Draws the transitions between screens over whatever the current screen has drawn. A fade tints the single white
+ * texel in the atlas and stretches it over the window, and a cross-fade draws the last frame of the previous screen,
+ * copied once from the window into a texture, over the new screen. Either costs one quad a frame while it runs and nothing
+ * once it has finished.
+ */
+public class ScreenTransition implements Disposable {
+
+    /**
+     * How long a cross-fade between screens takes, in seconds.
+     */
+    public static final float CROSS_FADE_TIME = 0.4f;
+
+    /**
+     * How long the start and win screens take to fade in from black, in seconds.
+     */
+    public static final float FADE_IN_TIME = 1.6f;
+
+    /**
+     * The texture the previous screen is copied into, created for the first cross-fade.
+     */
+    private Texture capturedTexture;
+
+    /**
+     * The captured texture, flipped to draw the right way up.
+     */
+    private TextureRegion capturedFrame;
+
+    /**
+     * How far through the cross-fade and how long it lasts, in seconds.
+     */
+    private float crossFadeTime, crossFadeDuration;
+
+    /**
+     * The colour being faded from.
+     */
+    private Color fadeColor = new Color();
+
+    /**
+     * How far through the fade and how long it lasts, in seconds.
+     */
+    private float fadeTime, fadeDuration;
+
+    /**
+     * Starts fading in the current screen from a solid colour.
+     *
+     * @param color    the colour to fade from
+     * @param duration how long the fade takes, in seconds
+     */
+    public void fadeIn(Color color, float duration) {
+        fadeColor.set(color);
+        fadeTime = 0;
+        fadeDuration = duration;
+    }
+
+    /**
+     * Captures the screen being left and starts cross-fading from it to whichever screen is drawn next. This must be
+     * called before the new screen is set, while nothing is being drawn.
+     * <p>
+     * The screen is drawn to the window as normal and then copied into the texture, rather than being drawn into a
+     * frame buffer, because screens such as the world draw through frame buffers of their own and ending one of those
+     * always returns to the window. The next screen clears the window before drawing over it.
+     *
+     * @param from     the screen being left
+     * @param duration how long the cross-fade takes, in seconds
+     */
+    public void crossFade(FixedStepScreen from, float duration) {
+        int width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+        if (capturedTexture == null) {
+            capturedTexture = new Texture(width, height, Pixmap.Format.RGB888);
+            capturedFrame = new TextureRegion(capturedTexture);
+            // Rows copied from the window run from the bottom, so the region is flipped to draw them the right way up.
+            capturedFrame.flip(false, true);
+        }
+
+        from.draw(1);
+        capturedTexture.bind();
+        Gdx.gl.glCopyTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, 0, 0, 0, width, height);
+
+        crossFadeTime = 0;
+        crossFadeDuration = duration;
+    }
+
+    /**
+     * @return true if a fade or cross-fade is running
+     */
+    public boolean isActive() {
+        return fadeTime < fadeDuration || crossFadeTime < crossFadeDuration;
+    }
+
+    /**
+     * Advances the running transitions and draws them over the current screen.
+     *
+     * @param context the render context to draw with
+     * @param delta   the time elapsed since the last frame
+     */
+    public void render(RenderContext context, float delta) {
+        if (!isActive()) {
+            return;
+        }
+
+        SpriteBatch batch = context.beginScreen();
+        int width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+        if (crossFadeTime < crossFadeDuration) {
+            batch.setColor(1, 1, 1, 1 - crossFadeTime / crossFadeDuration);
+            batch.draw(capturedFrame, 0, 0, width, height);
+            crossFadeTime += delta;
+        }
+        if (fadeTime < fadeDuration) {
+            batch.setColor(fadeColor.r, fadeColor.g, fadeColor.b, fadeColor.a * (1 - fadeTime / fadeDuration));
+            batch.draw(Assets.white, 0, 0, width, height);
+            fadeTime += delta;
+        }
+        batch.setColor(Color.WHITE);
+        batch.end();
+    }
+
+    /**
+     * Discards the captured texture so the next cross-fade captures at the new window size.
+     *
+     * @param width  the new width
+     * @param height the new height
+     */
+    public void resize(int width, int height) {
+        if (capturedTexture != null && (capturedTexture.getWidth() != width || capturedTexture.getHeight() != height)) {
+            capturedTexture.dispose();
+            capturedTexture = null;
+            crossFadeDuration = 0;
+        }
+    }
+
+    /**
+     * Releases the captured texture.
+     */
+    @Override
+    public void dispose() {
+        if (capturedTexture != null) {
+            capturedTexture.dispose();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.map.ChunkedMap;
+import com.mygdx.game.trigger.DoorTrigger;
+
+/**
+ * Loads the next segment in the background as the player approaches its door, so walking through the door doesn't
+ * have to load anything.
+ */
+public class SegmentPreloader {
+
+    /**
+     * How close the player must be to the next door, in tiles, before the segment behind it starts loading.
+     */
+    public static final int PRELOAD_DISTANCE = 16;
+
+    /**
+     * The chunked map the segments are streamed from.
+     */
+    private ChunkedMap chunks;
+
+    /**
+     * Creates a new SegmentPreloader streaming from the specified map.
+     *
+     * @param chunks the chunked map
+     */
+    public SegmentPreloader(ChunkedMap chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * Starts loading the segment behind the specified door if the player is close enough to it.
+     *
+     * @param door  the door into the next segment, or null if there is none
+     * @param tileX the x coordinate of the player's tile
+     * @param tileY the y coordinate of the player's tile
+     */
+    public void update(DoorTrigger door, int tileX, int tileY) {
+        if (door == null) {
+            return;
+        }
+
+        Vector2 position = door.getPosition();
+        if (Math.abs(position.x - tileX) <= PRELOAD_DISTANCE && Math.abs(position.y - tileY) <= PRELOAD_DISTANCE) {
+            preload(door);
+        }
+    }
+
+    /**
+     * Requests the chunks around the exit of a door and the assets of the segment behind it.
+     *
+     * @param door the door
+     */
+    public void preload(DoorTrigger door) {
+        Vector2 exit = door.getExit();
+        chunks.preload((int) exit.x, (int) exit.y);
+        Assets.preloadSegment(door.getSegment());
+    }
+
+    /**
+     * Checks whether the player can walk through a door without loading anything.
+     *
+     * @param door the door
+     * @return true if the chunks around the exit and the assets of the segment are loaded
+     */
+    public boolean isReady(DoorTrigger door) {
+        Vector2 exit = door.getExit();
+        return chunks.isAreaLoaded((int) exit.x, (int) exit.y) && Assets.isSegmentLoaded(door.getSegment());
+    }
+}
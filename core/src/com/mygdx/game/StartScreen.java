@@ -4,15 +4,13 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Align;
 import com.mygdx.game.assets.Assets;
 
 /**
- * A screen which is displayed before the game starts.
+ * A screen which is displayed before the game starts. The game fades it in from black when it is first shown.
  */
 public class StartScreen extends ScreenAdapter {
 
@@ -21,11 +19,6 @@ public class StartScreen extends ScreenAdapter {
      */
     private final Game game;
 
-    /**
-     * The current alpha of the black texture, used for the fading in effect.
-     */
-    private float fadeInCounter;
-
     /**
      * How long the StartScreen has been displayed for.
      */
@@ -46,21 +39,6 @@ public class StartScreen extends ScreenAdapter {
      */
     private GlyphLayout white = new GlyphLayout(Assets.consolas22, START_MESSAGE, Color.WHITE, Gdx.graphics.getWidth(), Align.center, false);
 
-    /**
-     * The sprite batch to draw on.
-     */
-    private SpriteBatch batch = new SpriteBatch();
-
-    /**
-     * The pixmap to use for the fade in black texture.
-     */
-    private Pixmap black;
-
-    /**
-     * The black texture.
-     */
-    private Texture blackTex;
-
     /**
      * Creates a new StartScreen with the specified parent game.
      *
@@ -68,15 +46,12 @@ public class StartScreen extends ScreenAdapter {
      */
     public StartScreen(Game game) {
         this.game = game;
-        black = new Pixmap(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), Pixmap.Format.RGBA8888);
-        blackTex = new Texture(black);
     }
 
     /**
      * Called when the StartScreen is displayed.
      */
     public void show() {
-        fadeInCounter = 1f;
         runningTime = 0;
     }
 
@@ -90,20 +65,13 @@ public class StartScreen extends ScreenAdapter {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         runningTime += delta;
         update();
-        batch.begin();
+        SpriteBatch batch = game.renderContext.beginScreen();
         batch.draw(Assets.title, 160, 0);
-        black.setColor(0, 0, 0, fadeInCounter);
-        fadeInCounter -= 0.01f;
-        if (fadeInCounter < 0) {
-            fadeInCounter = 0;
-        }
-        black.fill();
         if (runningTime % 1 > 0.5f) {
             Assets.consolas22.draw(batch, grey, 0, 100);
         } else {
             Assets.consolas22.draw(batch, white, 0, 100);
         }
-        batch.draw(blackTex, 0, 0);
         batch.end();
     }
 
@@ -0,0 +1,53 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.maps.MapProperties;
+
+/**
+ * Flags describing the terrain of a map tile, decoded from tile properties when the map is loaded.
+ */
+public final class Terrain {
+
+    /**
+     * The tile is water.
+     */
+    public static final int WATER = 1;
+
+    /**
+     * The tile has the blocked property.
+     */
+    public static final int BLOCKED = 1 << 1;
+
+    /**
+     * The tile slows characters walking over it.
+     */
+    public static final int SLOW = 1 << 2;
+
+    /**
+     * Random encounters can happen on the tile.
+     */
+    public static final int ENCOUNTER = 1 << 3;
+
+    /**
+     * The tile property names for each flag, indexed by bit.
+     */
+    private static final String[] PROPERTY_NAMES = {"water", "blocked", "slow", "encounter"};
+
+    private Terrain() {
+    }
+
+    /**
+     * Decodes the terrain flags set by the specified tile properties.
+     *
+     * @param properties the tile properties
+     * @return the terrain flags
+     */
+    public static int fromProperties(MapProperties properties) {
+        int flags = 0;
+        for (int i = 0; i < PROPERTY_NAMES.length; i++) {
+            if (properties.containsKey(PROPERTY_NAMES[i])) {
+                flags |= 1 << i;
+            }
+        }
+        return flags;
+    }
+}
@@ -3,15 +3,19 @@ package com.mygdx.game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.maps.MapLayer;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.mygdx.game.assets.Assets;
-import com.mygdx.game.entity.Character;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.systems.RenderSystem;
+import com.mygdx.game.entity.systems.SimulationLodSystem;
+import com.mygdx.game.map.ChunkRenderer;
+import com.mygdx.game.map.FogRenderer;
 import com.mygdx.game.ui.UIRenderer;
 
 /**
@@ -24,11 +28,29 @@ public class WorldRenderer {
      */
     public static final float PLAYER_CAMERA_BOUND = 8f;
 
+    /**
+     * The size of the player, used for moving the camera.
+     */
+    private static final Vector2 PLAYER_SIZE = new Vector2(26, 42);
+
     /**
      * Camera scale.
      */
     public final float SCALE = 3f;
 
+    /**
+     * The whole number of window pixels each world pixel covers when rendering through the frame buffer. Drawing at
+     * window resolution uses SCALE and a zoom of 2, which is 1.5 window pixels per world pixel and can't be upscaled
+     * crisply, so the frame buffer shows three quarters as much of the world across and up the window.
+     */
+    public static final int PIXEL_SCALE = 2;
+
+    /**
+     * Whether the world is drawn into a frame buffer at native pixel resolution and upscaled to the window, rather
+     * than being drawn at window resolution.
+     */
+    private boolean renderToFrameBuffer = true;
+
     /**
      * The game world to render.
      */
@@ -39,14 +61,34 @@ public class WorldRenderer {
      */
     private OrthographicCamera camera;
     /**
-     * The sprite batch to draw on.
+     * The render context shared by every screen.
+     */
+    private RenderContext context;
+
+    /**
+     * The sprite batch to draw on, borrowed from the render context.
      */
     private SpriteBatch batch;
 
+    /**
+     * The frame buffer the world is drawn into at native pixel resolution, or null if not rendering to one.
+     */
+    private FrameBuffer frameBuffer;
+
+    /**
+     * The projection used to draw the frame buffer to the window.
+     */
+    private Matrix4 screenProjection = new Matrix4();
+
     /**
      * The map renderer.
      */
-    private OrthogonalTiledMapRenderer mapRenderer;
+    private ChunkRenderer mapRenderer;
+
+    /**
+     * Draws the fog of war over unexplored tiles.
+     */
+    private FogRenderer fogRenderer;
 
     /**
      * The UI renderer.
@@ -54,135 +96,220 @@ public class WorldRenderer {
     private UIRenderer uiRenderer;
 
     /**
-     * The offset to render characters relative to their coordinates.
+     * The system which draws the characters.
+     */
+    private RenderSystem renderSystem;
+
+    /**
+     * The system which decides how often characters are simulated, told what the camera shows each frame.
+     */
+    private SimulationLodSystem lodSystem;
+
+    /**
+     * The interpolated position of the player.
      */
-    private Vector2 textureOffset = new Vector2(-2, 0);
+    private Vector2 playerPos = new Vector2();
 
     /**
      * Creates a new WorldRenderer, rendering the specified game world.
      *
-     * @param world the game world to render
+     * @param world   the game world to render
+     * @param context the render context whose batch to draw on
      */
-    public WorldRenderer(GameWorld world) {
+    public WorldRenderer(GameWorld world, RenderContext context) {
         this.world = world;
+        this.context = context;
 
         Assets.load();
 
-        batch = new SpriteBatch();
+        batch = context.getBatch();
         camera = new OrthographicCamera(Gdx.graphics.getWidth() / SCALE, Gdx.graphics.getHeight() / SCALE);
         camera.zoom = 2f;
         batch.setProjectionMatrix(camera.combined);
 
-        mapRenderer = new OrthogonalTiledMapRenderer(world.level.map, batch);
-        mapRenderer.setView(camera);
+        mapRenderer = new ChunkRenderer(world.level.chunks, world.level.map, batch);
+        fogRenderer = new FogRenderer(world.level.fog);
+        renderSystem = world.level.engine.getSystem(RenderSystem.class);
+        lodSystem = world.level.engine.getSystem(SimulationLodSystem.class);
 
         uiRenderer = new UIRenderer(world.uiManager);
+
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
 
     /**
      * Renders the game world.
      *
-     * @param delta the time elapsed since the last render
+     * @param alpha how far between the last two updates to draw characters, from 0 to 1
      */
-    public void render(float delta) {
-        Gdx.gl.glClearColor(0, 0, 0, 1);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    public void render(float alpha) {
+        updateCamera(alpha);
 
-        updateCamera();
+        if (frameBuffer != null) {
+            frameBuffer.begin();
+        }
 
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         /**
          * CHANGE M4: Modified the rendering system.
          */
-        mapRenderer.setMap(world.level.map);
         mapRenderer.setView(camera);
+        mapRenderer.renderStatic();
 
-        // Render all layers but the trees layer.
-        for (MapLayer layer : world.level.map.getLayers()) {
-            if (layer.isVisible() && !layer.getName().equals("trees")) {
-                mapRenderer.renderTileLayer((TiledMapTileLayer) layer);
-            }
-        }
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+
+        // Render the layers below characters.
+        mapRenderer.renderLayers(false);
+
+        renderPlayers(alpha);
 
-        renderPlayers(delta);
+        // Render the overlay layers, such as treetops, over characters.
+        mapRenderer.renderLayers(true);
 
-        // Render treetops layer over player.
-        mapRenderer.renderTileLayer((TiledMapTileLayer) world.level.map.getLayers().get("trees"));
+        fogRenderer.render(batch);
 
         batch.end();
 
-        uiRenderer.renderWorld();
+        if (frameBuffer != null) {
+            frameBuffer.end();
+            drawFrameBuffer();
+        }
+
+        uiRenderer.renderWorld(context);
     }
 
     /**
-     * Renders each character in the game world.
-     *
-     * @param delta the time elapsed since the last render
+     * Draws the frame buffer to the window as a single upscaled quad. The frame buffer is always at least as large as
+     * the window once scaled, so it covers the whole window and needs neither a clear nor blending.
      */
-    private void renderPlayers(float delta) {
-        for (int i = 0; i < world.level.characters.size(); i++) {
-            Character c = world.level.characters.get(i);
-
-            if (c.getState() != Character.CharacterState.TRANSITIONING) {
-                c.setStateTime(0);
-            } else {
-                c.setStateTime(c.getStateTime() + delta);
-            }
+    private void drawFrameBuffer() {
+        Texture texture = frameBuffer.getColorBufferTexture();
 
-            TextureRegion texture = c.getCurrentTexture();
+        batch.setProjectionMatrix(screenProjection);
+        batch.disableBlending();
+        batch.begin();
+        // Frame buffer textures are stored upside down.
+        batch.draw(texture, 0, 0, texture.getWidth() * PIXEL_SCALE, texture.getHeight() * PIXEL_SCALE,
+                0, 0, texture.getWidth(), texture.getHeight(), false, true);
+        batch.end();
+        batch.enableBlending();
+    }
 
-            batch.draw(texture, c.getAbsPos().x - textureOffset.x, c.getAbsPos().y - textureOffset.y, 64, 64);
-        }
+    /**
+     * Renders each character in view of the camera, in depth order.
+     *
+     * @param alpha how far between the last two updates to draw characters
+     */
+    private void renderPlayers(float alpha) {
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewHeight = camera.viewportHeight * camera.zoom;
+        renderSystem.render(batch, camera.position.x - viewWidth / 2, camera.position.y - viewHeight / 2, viewWidth, viewHeight, alpha);
     }
 
     /**
-     * Updates the camera bounds based on the player's position.
+     * Updates the camera bounds based on the player's position, and tells the simulation which area is in view.
+     *
+     * @param alpha how far between the last two updates the player is drawn
      */
-    private void updateCamera() {
+    private void updateCamera(float alpha) {
+        Mappers.movement.get(world.level.player).getDrawPosition(alpha, playerPos);
+
         // Constrain camera to area around player.
         float boundWidth = camera.viewportWidth / PLAYER_CAMERA_BOUND;
         float boundHeight = camera.viewportHeight / PLAYER_CAMERA_BOUND;
 
-        if (world.level.player.getAbsPos().x + Character.CHARACTER_SIZE.x > camera.position.x + boundWidth) {
-            camera.position.x = world.level.player.getAbsPos().x + Character.CHARACTER_SIZE.x - boundWidth;
-        } else if (world.level.player.getAbsPos().x < camera.position.x - boundWidth) {
-            camera.position.x = world.level.player.getAbsPos().x + boundWidth;
+        if (playerPos.x + PLAYER_SIZE.x > camera.position.x + boundWidth) {
+            camera.position.x = playerPos.x + PLAYER_SIZE.x - boundWidth;
+        } else if (playerPos.x < camera.position.x - boundWidth) {
+            camera.position.x = playerPos.x + boundWidth;
         }
 
-        if (world.level.player.getAbsPos().y + Character.CHARACTER_SIZE.y > camera.position.y + boundHeight) {
-            camera.position.y = world.level.player.getAbsPos().y + Character.CHARACTER_SIZE.y - boundHeight;
-        } else if (world.level.player.getAbsPos().y < camera.position.y - boundHeight) {
-            camera.position.y = world.level.player.getAbsPos().y + boundHeight;
+        if (playerPos.y + PLAYER_SIZE.y > camera.position.y + boundHeight) {
+            camera.position.y = playerPos.y + PLAYER_SIZE.y - boundHeight;
+        } else if (playerPos.y < camera.position.y - boundHeight) {
+            camera.position.y = playerPos.y + boundHeight;
         }
 
         // Constrain camera to map
         camera.position.x = MathUtils.clamp(camera.position.x, camera.viewportWidth / 2f, world.level.mapBounds.x - camera.viewportWidth / 2f);
         camera.position.y = MathUtils.clamp(camera.position.y, camera.viewportHeight / 2f, world.level.mapBounds.y - camera.viewportHeight / 2f);
 
+        if (frameBuffer != null) {
+            // Snap to whole pixels so the low resolution image does not shimmer as the camera moves.
+            camera.position.x = Math.round(camera.position.x);
+            camera.position.y = Math.round(camera.position.y);
+        }
+
         camera.update();
+
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewHeight = camera.viewportHeight * camera.zoom;
+        lodSystem.setView(camera.position.x - viewWidth / 2, camera.position.y - viewHeight / 2, viewWidth, viewHeight);
     }
 
     /**
-     * Re-sizes the game world camera.
+     * @return whether the world is drawn into a frame buffer and upscaled to the window
+     */
+    public boolean isRenderToFrameBuffer() {
+        return renderToFrameBuffer;
+    }
+
+    /**
+     * Sets whether the world is drawn into a frame buffer at native pixel resolution and upscaled to the window. The
+     * frame buffer is created or disposed straight away and the camera is set up for the new path.
+     *
+     * @param renderToFrameBuffer true to draw through a frame buffer, false to draw at window resolution
+     */
+    public void setRenderToFrameBuffer(boolean renderToFrameBuffer) {
+        if (this.renderToFrameBuffer != renderToFrameBuffer) {
+            this.renderToFrameBuffer = renderToFrameBuffer;
+            resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        }
+    }
+
+    /**
+     * Re-sizes the game world camera, recreating the frame buffer to match the new window size if rendering to one.
      *
      * @param width  the new width
      * @param height the new height
      */
     public void resize(int width, int height) {
-        camera.viewportWidth = width / SCALE;
-        camera.viewportHeight = height / SCALE;
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+
+        if (renderToFrameBuffer && width > 0 && height > 0) {
+            // Round up to an even size so the camera centre falls on a pixel boundary.
+            int bufferWidth = (width + PIXEL_SCALE * 2 - 1) / (PIXEL_SCALE * 2) * 2;
+            int bufferHeight = (height + PIXEL_SCALE * 2 - 1) / (PIXEL_SCALE * 2) * 2;
+
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, bufferWidth, bufferHeight, false);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+
+            camera.viewportWidth = bufferWidth;
+            camera.viewportHeight = bufferHeight;
+            camera.zoom = 1f;
+        } else {
+            camera.viewportWidth = width / SCALE;
+            camera.viewportHeight = height / SCALE;
+            camera.zoom = 2f;
+        }
         camera.update();
-        uiRenderer.resize();
+        screenProjection.setToOrtho2D(0, 0, width, height);
     }
 
     /**
      * Cleans up resources used by this WorldRenderer.
      */
     public void dispose() {
-        batch.dispose();
-        uiRenderer.dispose();
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+        }
         mapRenderer.dispose();
+        fogRenderer.dispose();
     }
 }
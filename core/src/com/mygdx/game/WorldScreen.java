@@ -6,7 +6,7 @@ import com.mygdx.game.assets.Assets;
 /**
  * A screen which displays the game world.
  */
-public class WorldScreen extends ScreenAdapter {
+public class WorldScreen extends ScreenAdapter implements FixedStepScreen {
 
     /**
      * The game world being shown on this WorldScreen.
@@ -25,7 +25,7 @@ public class WorldScreen extends ScreenAdapter {
      */
     public WorldScreen(Game game) {
         gameWorld = new GameWorld(game);
-        worldRenderer = new WorldRenderer(gameWorld);
+        worldRenderer = new WorldRenderer(gameWorld, game.renderContext);
     }
 
     /**
@@ -51,19 +51,30 @@ public class WorldScreen extends ScreenAdapter {
      *
      * @param delta the time elapsed since the last update
      */
+    @Override
     public void update(float delta) {
         gameWorld.update(delta);
     }
 
     /**
-     * Updates and renders the game world.
+     * Draws the game world, interpolating character positions between the last two updates.
+     *
+     * @param alpha how far between the last two updates to draw
+     */
+    @Override
+    public void draw(float alpha) {
+        worldRenderer.render(alpha);
+    }
+
+    /**
+     * Updates and renders the game world. The game normally updates and draws this screen separately instead.
      *
      * @param delta the time elapsed since the last render
      */
     @Override
     public void render(float delta) {
         update(delta);
-        worldRenderer.render(delta);
+        draw(1);
     }
 
     /**
@@ -83,6 +94,8 @@ public class WorldScreen extends ScreenAdapter {
     @Override
     public void dispose() {
         worldRenderer.dispose();
+        gameWorld.dispose();
+        gameWorld.level.dispose();
     }
 
     /**
@@ -1,11 +1,13 @@
 package com.mygdx.game.assets;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /**
  * Contains all assets used in the game.
@@ -21,16 +23,32 @@ public final class Assets {
     /**
      * Arrows for selection, turn pointing and dialogue pointing.
      */
-    public static Texture selectArrow, turnArrow, dialoguePointer;
+    public static TextureRegion selectArrow, turnArrow, dialoguePointer;
 
     /**
      * CHANGE M8: Added a recognisable background location to each segment.
      */
 
     /**
-     * Backgrounds for battles, indexed by segment number.
+     * The number of segments, each with its own battle background.
      */
-    public static Texture[] battleBackgrounds = new Texture[8];
+    public static final int SEGMENT_COUNT = 8;
+
+    /**
+     * How long the asset manager may spend each frame finishing assets loaded in the background, in milliseconds.
+     */
+    private static final int UPDATE_BUDGET = 2;
+
+    /**
+     * Loads the assets of each segment, such as its battle background, in the background so only the segments near
+     * the player are kept in memory.
+     */
+    public static AssetManager manager;
+
+    /**
+     * Whether the assets of each segment have been requested from the asset manager.
+     */
+    private static boolean[] segmentsRequested = new boolean[SEGMENT_COUNT];
 
     /**
      * UI fonts.
@@ -42,14 +60,20 @@ public final class Assets {
      */
     public static NinePatch patch;
     /**
-     * Texture atlas for loading the nine patch.
+     * The file the sprite atlas is packed to at build time from the sprites folder.
+     */
+    public static final String ATLAS_FILE = "packedimages/sprites.atlas";
+
+    /**
+     * Texture atlas holding the world, battle and UI sprites and the font pages, so they can be drawn without
+     * switching textures.
      */
     public static TextureAtlas atlas;
 
     /**
      * Shadow texture for drawing below world characters.
      */
-    public static Texture shadow;
+    public static TextureRegion shadow;
 
     /**
      * Title screen.
@@ -74,7 +98,12 @@ public final class Assets {
     /**
      * The shield texture to show that a piece of equipment is currently equipped.
      */
-    public static Texture shield;
+    public static TextureRegion shield;
+
+    /**
+     * A single white texel, tinted and stretched to draw fades and solid boxes.
+     */
+    public static TextureRegion white;
 
     /**
      * Textures representing each type of equipment (head, body, feet, accessory, weapon).
@@ -100,36 +129,38 @@ public final class Assets {
      * Loads all assets from the asset folder.
      */
     public static void load() {
+        atlas = new TextureAtlas(Gdx.files.internal(ATLAS_FILE));
         title = new Texture("Start Screen.png");
 
         battleTextures = new BattleTextures[BATTLE_TEXTURES.length];
         loadAllBattleTextures();
 
-        roboWalkingTextures = loadWalkingTextures("robo", 32, 32, 2, 0.175f);
-        sallyWalkingTextures = loadWalkingTextures("sally", 32, 32, 2, 0.175f);
+        roboWalkingTextures = new WalkingTextures(atlas, "robo", 32, 32, 0.175f);
+        sallyWalkingTextures = new WalkingTextures(atlas, "sally", 32, 32, 0.175f);
 
         loadPlayerTextures();
         loadEquipmentTextures();
-        loadBattleBackgrounds();
+        if (manager == null) {
+            manager = new AssetManager();
+        }
         loadUITextures();
         loadSounds();
 
-        shadow = new Texture("shadow.png");
+        shadow = findRegion("world/shadow");
     }
 
     /**
      * Loads all UI-related textures.
      */
     private static void loadUITextures() {
-        turnArrow = new Texture("turnPointer.png");
-        selectArrow = new Texture("arrow.png");
-        consolas22 = new BitmapFont(Gdx.files.internal("fonts/consolas22.fnt"));
-        consolas16 = new BitmapFont(Gdx.files.internal("fonts/consolas16.fnt"));
-        atlas = new TextureAtlas(Gdx.files.internal("packedimages/pack.atlas"));
-        patch = atlas.createPatch("knob2");
-        dialoguePointer = new Texture("dialoguePointer.png");
-        selectArrow = new Texture("arrow.png");
-        shield = new Texture("shield.png");
+        turnArrow = findRegion("ui/turnPointer");
+        selectArrow = findRegion("ui/arrow");
+        consolas22 = new BitmapFont(Gdx.files.internal("fonts/consolas22.fnt"), findRegion("fonts/consolas22"));
+        consolas16 = new BitmapFont(Gdx.files.internal("fonts/consolas16.fnt"), findRegion("fonts/consolas16"));
+        patch = new NinePatch(findRegion("ui/knob2"), 14, 14, 14, 14);
+        dialoguePointer = findRegion("ui/dialoguePointer");
+        shield = findRegion("ui/shield");
+        white = findRegion("ui/white");
     }
 
     /**
@@ -154,138 +185,141 @@ public final class Assets {
     }
 
     /**
-     * Loads all battle backgrounds.
+     * Advances the assets being loaded in the background, spending at most a couple of milliseconds.
      */
-    private static void loadBattleBackgrounds() {
-        for (int i = 0; i < battleBackgrounds.length; i++) {
-            battleBackgrounds[i] = loadTexture("backgrounds/segment_" + i + ".png");
-        }
+    public static void update() {
+        manager.update(UPDATE_BUDGET);
     }
 
     /**
-     * Loads all battle textures.
+     * Starts loading the assets of a segment in the background if they haven't been requested already.
+     *
+     * @param segment the segment
      */
-    private static void loadAllBattleTextures() {
-        for (int i = 0; i < BATTLE_TEXTURES.length; i++) {
-            battleTextures[i] = loadBattleTextures(BATTLE_TEXTURES[i], 32, 32);
+    public static void preloadSegment(int segment) {
+        if (segment >= 0 && segment < SEGMENT_COUNT && !segmentsRequested[segment]) {
+            segmentsRequested[segment] = true;
+            manager.load(getBattleBackgroundPath(segment), Texture.class);
         }
     }
 
-    private static void loadEquipmentTextures() {
-        Texture texture = loadTexture("equipment.png");
+    /**
+     * Checks whether the assets of a segment have finished loading.
+     *
+     * @param segment the segment
+     * @return true if the assets are loaded, or the segment doesn't exist
+     */
+    public static boolean isSegmentLoaded(int segment) {
+        return segment < 0 || segment >= SEGMENT_COUNT || manager.isLoaded(getBattleBackgroundPath(segment));
+    }
 
-        for (int i = 0; i < equipment.length; i++) {
-            equipment[i] = new TextureRegion(texture, i * 15, 0, 15, 15);
+    /**
+     * Releases the assets of a segment the player has left.
+     *
+     * @param segment the segment
+     */
+    public static void unloadSegment(int segment) {
+        if (segment >= 0 && segment < SEGMENT_COUNT && segmentsRequested[segment]) {
+            segmentsRequested[segment] = false;
+            manager.unload(getBattleBackgroundPath(segment));
         }
     }
 
     /**
-     * Loads all player textures.
+     * Gets the battle background of a segment, loading it immediately if it hasn't been preloaded.
+     *
+     * @param segment the segment
+     * @return the battle background
      */
-    private static void loadPlayerTextures() {
-        playerWalkingTextures = loadWalkingTextures("player", 32, 32, 2, 0.175f);
-
-        // Load swimming textures for world.
-        Texture swimming = loadTexture("world/player_swimming.png");
-        TextureRegion swimmingDown = new TextureRegion(swimming, 0, 0, 32, 32);
-        TextureRegion swimmingUp = new TextureRegion(swimming, 32, 0, 32, 32);
-        TextureRegion swimmingLeft = new TextureRegion(swimming, 64, 0, 32, 32);
-        TextureRegion swimmingRight = new TextureRegion(swimming, 96, 0, 32, 32);
-        playerSwimmingTextures = new WalkingTextures(swimmingDown, swimmingUp, swimmingLeft, swimmingRight);
+    public static Texture getBattleBackground(int segment) {
+        String path = getBattleBackgroundPath(segment);
+        if (!manager.isLoaded(path)) {
+            preloadSegment(segment);
+            manager.finishLoadingAsset(path);
+        }
+        return manager.get(path, Texture.class);
     }
 
     /**
-     * Loads a standard set of walking textures from the world folder.
+     * Gets the path of the battle background of a segment.
      *
-     * @param prefix        the file prefix of the textures to load
-     * @param width         the width of each texture
-     * @param height        the height of each texture
-     * @param frameCount    the number of frames in the walking animations
-     * @param frameDuration how long each frame in the walking animation should be displayed for
-     * @return the set of walking textures
-     */
-    private static WalkingTextures loadWalkingTextures(String prefix, int width, int height, int frameCount, float frameDuration) {
-        Texture idle = loadTexture("world/" + prefix + "_idle.png");
-
-        // Cut idle textures from texture map.
-        TextureRegion down = new TextureRegion(idle, 0, 0, width, height);
-        TextureRegion up = new TextureRegion(idle, width, 0, width, height);
-        TextureRegion left = new TextureRegion(idle, width * 2, 0, width, height);
-        TextureRegion right = new TextureRegion(idle, width * 3, 0, width, height);
-
-        // Load walking animations.
-        Animation walkingDown = loadAnimation("world/" + prefix + "_walking_down.png", width, height, frameCount, frameDuration);
-        Animation walkingUp = loadAnimation("world/" + prefix + "_walking_up.png", width, height, frameCount, frameDuration);
-        Animation walkingLeft = loadAnimation("world/" + prefix + "_walking_left.png", width, height, frameCount, frameDuration);
-        Animation walkingRight = loadAnimation("world/" + prefix + "_walking_right.png", width, height, frameCount, frameDuration);
-
-        return new WalkingTextures(down, up, left, right, walkingDown, walkingUp, walkingLeft, walkingRight);
+     * @param segment the segment
+     * @return the path of the background
+     */
+    private static String getBattleBackgroundPath(int segment) {
+        return "backgrounds/segment_" + segment + ".png";
     }
 
     /**
-     * Loads a standard set of battle textures from the battle folder.
-     *
-     * @param prefix the file prefix of the textures to load
-     * @param width  the width of each texture
-     * @param height the height of each texture
-     * @return the set of battle textures
+     * Loads all battle textures.
+     */
+    private static void loadAllBattleTextures() {
+        for (int i = 0; i < BATTLE_TEXTURES.length; i++) {
+            battleTextures[i] = new BattleTextures(atlas, BATTLE_TEXTURES[i], 32, 32);
+        }
+    }
+
+    /**
+     * Loads the icons for each type of equipment.
      */
-    private static BattleTextures loadBattleTextures(String prefix, int width, int height) {
-        Texture battle = loadTexture("battle/" + prefix + "_battle.png");
+    private static void loadEquipmentTextures() {
+        TextureRegion[] icons = findRegion("ui/equipment").split(15, 15)[0];
 
-        TextureRegion alive = new TextureRegion(battle, 0, 0, width, height);
-        TextureRegion dead = new TextureRegion(battle, width, 0, width, height);
+        System.arraycopy(icons, 0, equipment, 0, equipment.length);
+    }
 
-        // Load the battle animation if it exists.
-        if (Gdx.files.internal("battle/" + prefix + "_anim.png").exists()) {
-            Texture texture = loadTexture("battle/" + prefix + "_anim.png");
+    /**
+     * Loads all player textures.
+     */
+    private static void loadPlayerTextures() {
+        playerWalkingTextures = new WalkingTextures(atlas, "player", 32, 32, 0.175f);
 
-            return new BattleTextures(alive, dead, loadAnimation(texture, width, height, texture.getWidth() / width, 0.025f));
-        } else {
-            return new BattleTextures(alive, dead);
-        }
+        // Load swimming textures for world.
+        TextureRegion[] swimming = findRegion("world/player_swimming").split(32, 32)[0];
+        playerSwimmingTextures = new WalkingTextures(swimming[0], swimming[1], swimming[2], swimming[3]);
     }
 
     /**
-     * Loads the texture from the specified file.
+     * Finds a region in the sprite atlas.
      *
-     * @param file the file to load from
-     * @return the texture
+     * @param name the name of the region, which is its path in the sprites folder without the extension
+     * @return the region
      */
-    public static Texture loadTexture(String file) {
-        return new Texture(Gdx.files.internal(file));
+    public static TextureRegion findRegion(String name) {
+        return findRegion(atlas, name);
     }
 
     /**
-     * Loads the animation from the specified file.
+     * Finds a region in the specified atlas.
      *
-     * @param file          the file to load from
-     * @param frameCount    how many frames are in the file
-     * @param frameWidth    how wide each frame is in the file
-     * @param frameHeight   how tall each frame is in the file
-     * @param frameDuration how long each frame should be shown for in seconds
-     * @return the animation
+     * @param atlas the atlas holding the region
+     * @param name  the name of the region, which is its path in the sprites folder without the extension
+     * @return the region
      */
-    public static Animation loadAnimation(String file, int frameWidth, int frameHeight, int frameCount, float frameDuration) {
-        Texture texture = loadTexture(file);
-        return loadAnimation(texture, frameWidth, frameHeight, frameCount, frameDuration);
+    public static TextureRegion findRegion(TextureAtlas atlas, String name) {
+        TextureRegion region = atlas.findRegion(name);
+        if (region == null) {
+            throw new GdxRuntimeException("Sprite " + name + " is missing from the texture atlas");
+        }
+        return region;
     }
 
     /**
-     * Loads an animation from the specified texture.
+     * Loads an animation from a strip of frames laid out left to right in the specified region.
      *
-     * @param texture       the texture to create from
-     * @param frameCount    how many frames are in the file
-     * @param frameWidth    how wide each frame is in the file
-     * @param frameHeight   how tall each frame is in the file
+     * @param region        the region to create from
+     * @param frameWidth    how wide each frame is in the region
+     * @param frameHeight   how tall each frame is in the region
+     * @param frameCount    how many frames are in the region
      * @param frameDuration how long each frame should be shown for in seconds
      * @return the animation
      */
-    public static Animation loadAnimation(Texture texture, int frameWidth, int frameHeight, int frameCount, float frameDuration) {
+    public static Animation loadAnimation(TextureRegion region, int frameWidth, int frameHeight, int frameCount, float frameDuration) {
         Array<TextureRegion> keyFrames = new Array<TextureRegion>();
 
+        TextureRegion[] frames = region.split(frameWidth, frameHeight)[0];
         for (int i = 0; i < frameCount; i++) {
-            keyFrames.add(new TextureRegion(texture, i * frameWidth, 0, frameWidth, frameHeight));
+            keyFrames.add(frames[i]);
         }
 
         return new Animation(frameDuration, keyFrames);
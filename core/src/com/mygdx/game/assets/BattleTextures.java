@@ -1,6 +1,7 @@
 package com.mygdx.game.assets;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
@@ -18,6 +19,28 @@ public final class BattleTextures {
      */
     private Animation battleAnimation;
 
+    /**
+     * Creates a new BattleTextures from the standard set of battle sprites in an atlas: an alive and dead strip, and a
+     * battle animation strip if the character has one.
+     *
+     * @param atlas  the atlas holding the sprites
+     * @param prefix the file prefix of the sprites in the battle folder
+     * @param width  the width of each frame
+     * @param height the height of each frame
+     */
+    public BattleTextures(TextureAtlas atlas, String prefix, int width, int height) {
+        TextureRegion[] battle = Assets.findRegion(atlas, "battle/" + prefix + "_battle").split(width, height)[0];
+        alive = battle[0];
+        dead = battle[1];
+
+        TextureRegion animation = atlas.findRegion("battle/" + prefix + "_anim");
+        if (animation != null) {
+            battleAnimation = Assets.loadAnimation(animation, width, height, animation.getRegionWidth() / width, 0.025f);
+        } else {
+            battleAnimation = new Animation(1, alive);
+        }
+    }
+
     /**
      * Crates a new BattleTextures with the specified parameters.
      *
@@ -1,8 +1,9 @@
 package com.mygdx.game.assets;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.mygdx.game.entity.Character;
+import com.mygdx.game.entity.Direction;
 
 /**
  * Represents a standard set of textures for character facing and walking animation.
@@ -19,6 +20,28 @@ public final class WalkingTextures {
      */
     private Animation[] walkingAnimations = new Animation[4];
 
+    /**
+     * Initialises this TextureSet from the standard set of world sprites in an atlas: an idle strip facing down, up,
+     * left and right, and a walking strip for each direction.
+     *
+     * @param atlas         the atlas holding the sprites
+     * @param prefix        the file prefix of the sprites in the world folder
+     * @param width         the width of each frame
+     * @param height        the height of each frame
+     * @param frameDuration how long each frame in the walking animation should be displayed for
+     */
+    public WalkingTextures(TextureAtlas atlas, String prefix, int width, int height, float frameDuration) {
+        TextureRegion[] idle = Assets.findRegion(atlas, "world/" + prefix + "_idle").split(width, height)[0];
+        for (Direction direction : Direction.values()) {
+            idleTextures[direction.getIndex()] = idle[direction.getIndex()];
+
+            String walkingName = "world/" + prefix + "_walking_" + direction.name().toLowerCase();
+            TextureRegion walking = Assets.findRegion(atlas, walkingName);
+            walkingAnimations[direction.getIndex()] = Assets.loadAnimation(walking, width, height,
+                    walking.getRegionWidth() / width, frameDuration);
+        }
+    }
+
     /**
      * Initialises this TextureSet with a single texture used for everything.
      *
@@ -55,15 +78,15 @@ public final class WalkingTextures {
      */
     public WalkingTextures(TextureRegion down, TextureRegion up, TextureRegion left, TextureRegion right,
                            Animation walkingDown, Animation walkingUp, Animation walkingLeft, Animation walkingRight) {
-        idleTextures[Character.Direction.DOWN.getIndex()] = down;
-        idleTextures[Character.Direction.UP.getIndex()] = up;
-        idleTextures[Character.Direction.LEFT.getIndex()] = left;
-        idleTextures[Character.Direction.RIGHT.getIndex()] = right;
+        idleTextures[Direction.DOWN.getIndex()] = down;
+        idleTextures[Direction.UP.getIndex()] = up;
+        idleTextures[Direction.LEFT.getIndex()] = left;
+        idleTextures[Direction.RIGHT.getIndex()] = right;
 
-        walkingAnimations[Character.Direction.DOWN.getIndex()] = walkingDown;
-        walkingAnimations[Character.Direction.UP.getIndex()] = walkingUp;
-        walkingAnimations[Character.Direction.LEFT.getIndex()] = walkingLeft;
-        walkingAnimations[Character.Direction.RIGHT.getIndex()] = walkingRight;
+        walkingAnimations[Direction.DOWN.getIndex()] = walkingDown;
+        walkingAnimations[Direction.UP.getIndex()] = walkingUp;
+        walkingAnimations[Direction.LEFT.getIndex()] = walkingLeft;
+        walkingAnimations[Direction.RIGHT.getIndex()] = walkingRight;
     }
 
     /**
@@ -73,7 +96,7 @@ public final class WalkingTextures {
      * @param stateTime the state time
      * @return the appropriate texture
      */
-    public TextureRegion getTexture(Character.Direction facing, float stateTime) {
+    public TextureRegion getTexture(Direction facing, float stateTime) {
         if (stateTime > 0) {
             return walkingAnimations[facing.getIndex()].getKeyFrame(stateTime, true);
         } else {
@@ -10,9 +10,9 @@ import com.mygdx.game.UseAbility;
 public class BattleAnimator {
 
     /**
-     * The base speed at which agents move to attack.
+     * The base speed at which agents move to attack, in pixels per second.
      */
-    private static final float BASE_SPEED = 5;
+    private static final float BASE_SPEED = 300;
 
     /**
      * Whether the current turn agent is moving out to attack or returning.
@@ -20,7 +20,7 @@ public class BattleAnimator {
     private boolean isMoving = false, isReturning = false;
 
     /**
-     * The number of pixels moved each frame in each direction.
+     * The number of pixels moved each second in each direction.
      */
     private float moveSpeedX, moveSpeedY;
 
@@ -47,9 +47,9 @@ public class BattleAnimator {
      */
     public void update(float delta) {
         if (isMoving) {
-            updateMovement();
+            updateMovement(delta);
 
-            if (checkArrived()) {
+            if (checkArrived(delta)) {
                 currentMoveAgent.setX(targetX);
                 currentMoveAgent.setY(targetY);
                 isMoving = false;
@@ -60,9 +60,9 @@ public class BattleAnimator {
                 currentMoveAgent.updateAttackTime(delta);
             }
         } else if (isReturning) {
-            updateMovement();
+            updateMovement(delta);
 
-            if (checkArrived()) {
+            if (checkArrived(delta)) {
                 currentMoveAgent.setX(targetX);
                 currentMoveAgent.setY(targetY);
                 isReturning = false;
@@ -73,21 +73,25 @@ public class BattleAnimator {
 
     /**
      * Moves the current move agent one step.
+     *
+     * @param delta the time elapsed since the last update
      */
-    private void updateMovement() {
-        if (getDistance(currentMoveAgent.getX(), targetX) > Math.abs(moveSpeedX))
-            currentMoveAgent.setX(currentMoveAgent.getX() + moveSpeedX);
-        if (getDistance(currentMoveAgent.getY(), targetY) > Math.abs(moveSpeedY))
-            currentMoveAgent.setY(currentMoveAgent.getY() + moveSpeedY);
+    private void updateMovement(float delta) {
+        float stepX = moveSpeedX * delta, stepY = moveSpeedY * delta;
+        if (getDistance(currentMoveAgent.getX(), targetX) > Math.abs(stepX))
+            currentMoveAgent.setX(currentMoveAgent.getX() + stepX);
+        if (getDistance(currentMoveAgent.getY(), targetY) > Math.abs(stepY))
+            currentMoveAgent.setY(currentMoveAgent.getY() + stepY);
     }
 
     /**
-     * Checks to see if the agent has arrived at the target coordinates.
+     * Checks to see if the agent is within one step of the target coordinates.
      *
+     * @param delta the time elapsed since the last update
      * @return true if agent has arrived
      */
-    private boolean checkArrived() {
-        return getDistance(currentMoveAgent.getX(), targetX) <= Math.abs(moveSpeedX) && getDistance(currentMoveAgent.getY(), targetY) <= Math.abs(moveSpeedY);
+    private boolean checkArrived(float delta) {
+        return getDistance(currentMoveAgent.getX(), targetX) <= Math.abs(moveSpeedX * delta) && getDistance(currentMoveAgent.getY(), targetY) <= Math.abs(moveSpeedY * delta);
     }
 
     /**
@@ -144,6 +148,18 @@ public class BattleAnimator {
 
     }
 
+    /**
+     * Stops any movement in progress and forgets the agent and ability, so nothing carries over into the next battle.
+     */
+    public void reset() {
+        isMoving = false;
+        isReturning = false;
+        moveSpeedX = moveSpeedY = 0;
+        targetX = targetY = originalX = originalY = 0;
+        currentMoveAgent = null;
+        currentCaller = null;
+    }
+
     /**
      * Calculates movement speed based on original and target coordinates.
      */
@@ -2,6 +2,7 @@ package com.mygdx.game.battle;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Pool;
 import com.mygdx.game.*;
 import com.mygdx.game.assets.Assets;
 import com.mygdx.game.ui.*;
@@ -10,7 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Manages the battle screen UI.
+ * Manages the battle screen UI. A BattleMenu lasts as long as its battle screen and is reset between battles, with the
+ * skill and item menus and the information box taken from pools rather than created each time they are shown.
  */
 public class BattleMenu {
 
@@ -104,6 +106,26 @@ public class BattleMenu {
      */
     private UIMessageBox infoBox;
 
+    /**
+     * Pools the skill and item menus, which are emptied when freed and refilled when next opened.
+     */
+    private Pool<UIBattleSkillItemMenu> menuPool = new Pool<UIBattleSkillItemMenu>() {
+        @Override
+        protected UIBattleSkillItemMenu newObject() {
+            return new UIBattleSkillItemMenu(battleUI.getUIComponent(0).getWidth() + battleUI.getUIComponent(1).getWidth(), yOffset, Gdx.graphics.getWidth() / 2 + 50, Gdx.graphics.getHeight() / 5, 20, 10);
+        }
+    };
+
+    /**
+     * Pools the information boxes shown at the start of each turn.
+     */
+    private Pool<UIMessageBox> infoBoxPool = new Pool<UIMessageBox>() {
+        @Override
+        protected UIMessageBox newObject() {
+            return new UIMessageBox("", 0f, -90f, Gdx.graphics.getWidth(), 70, 10, 10);
+        }
+    };
+
     /**
      * How long the information box should be displayed for.
      */
@@ -142,6 +164,34 @@ public class BattleMenu {
         battleUI.addUIComponent(baseMenuList);
     }
 
+    /**
+     * Resets this BattleMenu for a new battle, returning any menus and information box left from the last battle to
+     * their pools.
+     */
+    public void reset() {
+        resetMenus();
+        if (skillUI != null) {
+            freeMenu(skillUI);
+            skillUI = null;
+        }
+        if (itemUI != null) {
+            freeMenu(itemUI);
+            itemUI = null;
+        }
+        destroyInfoBox();
+
+        previousMenuPointer = 0;
+        targetMenuPointerRow = battleLayout.length - 1;
+        targetMenuPointerColumn = 0;
+        isTargetingIndicatorPointLeft = false;
+        skillOrItemID = 0;
+        showTurnIndicator = false;
+        resultsDialog = null;
+        showResultsDialog = false;
+        currentUseAbility = null;
+        ((UIBattleBaseMenu) battleUI.getUIComponent(1)).selectItem(baseMenuPointer);
+    }
+
     /**
      * Renders this BattleMenu onto the specified sprite batch.
      *
@@ -150,7 +200,8 @@ public class BattleMenu {
     public void render(SpriteBatch batch) {
         battleUIRenderer.renderBattle(batch);
         if (menuPointer == 3) {
-            batch.draw(Assets.selectArrow, targetingIndicatorX, targetingIndicatorY, Assets.selectArrow.getWidth(), Assets.selectArrow.getHeight(), 0, 0, Assets.selectArrow.getWidth(), Assets.selectArrow.getHeight(), isTargetingIndicatorPointLeft, false);
+            float arrowWidth = Assets.selectArrow.getRegionWidth(), arrowHeight = Assets.selectArrow.getRegionHeight();
+            batch.draw(Assets.selectArrow, targetingIndicatorX, targetingIndicatorY, arrowWidth / 2, arrowHeight / 2, arrowWidth, arrowHeight, isTargetingIndicatorPointLeft ? -1 : 1, 1, 0);
         }
         if (showTurnIndicator) {
             batch.draw(Assets.turnArrow, turnIndicatorX, turnIndicatorY);
@@ -248,7 +299,8 @@ public class BattleMenu {
     public void createInfoBox(String text, float duration) {
         if (infoBox != null)
             destroyInfoBox();
-        infoBox = new UIMessageBox(text, 0f, -90f, Gdx.graphics.getWidth(), 70, 10, 10);//FIX POSITIONING
+        infoBox = infoBoxPool.obtain();
+        infoBox.set(text, 0f, -90f, Gdx.graphics.getWidth(), 70);//FIX POSITIONING
         infoBoxTimer = duration;
         battleUI.addUIComponent(infoBox);
     }
@@ -259,6 +311,7 @@ public class BattleMenu {
     public void destroyInfoBox() {
         if (infoBox != null) {
             battleUI.removeUIComponent(infoBox);
+            infoBoxPool.free(infoBox);
             infoBox = null;
         }
     }
@@ -298,12 +351,14 @@ public class BattleMenu {
         menuPointer = 0;
 
         if (isSkillTargeting) { //reset the targeting type
-            battleUI.removeUIComponent(skillUI); //remove the skillUI component
+            freeMenu(skillUI); //remove the skillUI component
+            skillUI = null;
             isSkillTargeting = false;
         }
 
         if (isItemTargeting) { //reset the targeting type
-            battleUI.removeUIComponent(itemUI); //remove the skillUI component
+            freeMenu(itemUI); //remove the skillUI component
+            itemUI = null;
             isItemTargeting = false;
         }
     }
@@ -380,7 +435,7 @@ public class BattleMenu {
      * Creates the skill list and populates it with available skills.
      */
     private void populateSkillUI() {
-        skillUI = new UIBattleSkillItemMenu(battleUI.getUIComponent(0).getWidth() + battleUI.getUIComponent(1).getWidth(), yOffset, Gdx.graphics.getWidth() / 2 + 50, Gdx.graphics.getHeight() / 5, 20, 10);
+        skillUI = menuPool.obtain();
         for (int i = 0; i < battleScreen.getCurrentTurnAgent().getSkills().size(); i++) {
             skillUI.addListItem(Game.skills.getSkill(battleScreen.getCurrentTurnAgent().getSkills().get(i)).getName());
         }
@@ -393,7 +448,7 @@ public class BattleMenu {
      */
     private void populateItemUI() {
 
-        itemUI = new UIBattleSkillItemMenu(battleUI.getUIComponent(0).getWidth() + battleUI.getUIComponent(1).getWidth(), yOffset, Gdx.graphics.getWidth() / 2 + 50, Gdx.graphics.getHeight() / 5, 20, 10);
+        itemUI = menuPool.obtain();
         for (int i = 0; i < Game.party.getConsumables().size(); i++) {
             itemUI.addListItem(Game.items.getConsumable(Game.party.getConsumables().get(i)).getName());
         }
@@ -401,6 +456,16 @@ public class BattleMenu {
         itemUI.selectItem(itemMenuPointer);
     }
 
+    /**
+     * Removes a skill or item menu from the screen and returns it to the pool.
+     *
+     * @param menu the menu to remove
+     */
+    private void freeMenu(UIBattleSkillItemMenu menu) {
+        battleUI.removeUIComponent(menu);
+        menuPool.free(menu);
+    }
+
     /**
      * Uses the given input to update the skill menu.
      *
@@ -417,8 +482,9 @@ public class BattleMenu {
             }
             case ESC: {
                 menuPointer = 0;
-                battleUI.removeUIComponent(skillUI);//Removes the skillUI component
-                break;
+                freeMenu(skillUI);//Removes the skillUI component
+                skillUI = null;
+                return;
             }
             case RIGHT: {
                 if (skillMenuPointer % 2 == 0)
@@ -463,8 +529,9 @@ public class BattleMenu {
             }
             case ESC: {
                 menuPointer = 0;
-                battleUI.removeUIComponent(itemUI);
-                break;
+                freeMenu(itemUI);
+                itemUI = null;
+                return;
             }
             case RIGHT: {
                 if (itemMenuPointer % 2 == 0)
@@ -18,9 +18,10 @@ import java.util.List;
 import java.util.Random;
 
 /**
- * Manages the battle display.
+ * Manages the battle display. The game keeps a single BattleScreen and resets it for each encounter, so the menus and
+ * UI components are created once rather than for every battle.
  */
-public class BattleScreen extends ScreenAdapter {
+public class BattleScreen extends ScreenAdapter implements FixedStepScreen {
 
     /**
      * The game this BattleScreen belongs to.
@@ -28,7 +29,7 @@ public class BattleScreen extends ScreenAdapter {
     private Game game;
 
     /**
-     * The sprite batch to render on.
+     * The sprite batch to render on, borrowed from the game's render context.
      */
     private SpriteBatch batch;
     /**
@@ -83,33 +84,37 @@ public class BattleScreen extends ScreenAdapter {
     private boolean isBattleOver = false, isBattleWon;
 
     /**
-     * Creates a new BattleScreen with the specified parameters.
+     * Creates a new BattleScreen. It must be reset with the parameters of a battle before it is shown.
      *
-     * @param game         the game this BattleScreen belongs to
-     * @param battleParams the battle parameters to use
+     * @param game the game this BattleScreen belongs to
      */
-    public BattleScreen(Game game, BattleParameters battleParams) {
+    public BattleScreen(Game game) {
         this.game = game;
-        batch = new SpriteBatch();
+        batch = game.renderContext.getBatch();
         camera = new OrthographicCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-
-        initialiseBattleScreen(battleParams);
-
     }
 
     /**
-     * Initialises this BattleScreen.
+     * Resets this BattleScreen to start a new battle, discarding anything left over from the previous one.
      *
      * @param battleParams the battle parameters to use
      */
-    private void initialiseBattleScreen(BattleParameters battleParams) {
-        //Set (0,0) to be the top left corner
-        camera.translate(Gdx.graphics.getWidth() / 2, -(Gdx.graphics.getHeight() / 2));
-        camera.update();
+    public void reset(BattleParameters battleParams) {
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         backgroundNumber = battleParams.getBackground();
         enemyParty = battleParams.getEnemyParty();
 
+        turnOrder.clear();
+        turnOrderPointer = 0;
+        currentTurnAgent = null;
+        currentUseAbility = null;
+        enemyHasUsedSkill = false;
+        isBattleOver = false;
+        isBattleWon = false;
+        battleMenu.reset();
+        battleAnimator.reset();
+
         determineTurnOrder();
         assignInitialPositions();
 
@@ -123,6 +128,20 @@ public class BattleScreen extends ScreenAdapter {
 
     }
 
+    /**
+     * Re-sizes the camera to the new window size.
+     *
+     * @param width  the new width
+     * @param height the new height
+     */
+    @Override
+    public void resize(int width, int height) {
+        //Set (0,0) to be the top left corner
+        camera.setToOrtho(false, width, height);
+        camera.translate(0, -height);
+        camera.update();
+    }
+
     /**
      * Assigns agents their initial positions based on the turn order.
      */
@@ -174,6 +193,7 @@ public class BattleScreen extends ScreenAdapter {
      *
      * @param delta the time elapsed since the last update
      */
+    @Override
     public void update(float delta) {
         if (!isBattleOver) {
             //Check inputs if the current turn agent is friendly
@@ -384,19 +404,28 @@ public class BattleScreen extends ScreenAdapter {
     }
 
     /**
-     * Renders this BattleMenu onto the specified sprite batch.
+     * Updates and renders this BattleScreen. The game normally updates and draws this screen separately instead.
      *
      * @param delta the time elapsed since the last render
      */
+    @Override
     public void render(float delta) {
-        super.render(delta);
-        this.update(delta);
+        update(delta);
+        draw(1);
+    }
 
+    /**
+     * Draws the battle. Agents move in small steps, so they are drawn where they are rather than interpolated.
+     *
+     * @param alpha how far between the last two updates to draw
+     */
+    @Override
+    public void draw(float alpha) {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        batch.draw(Assets.battleBackgrounds[backgroundNumber], 0, -Gdx.graphics.getHeight(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.draw(Assets.getBattleBackground(backgroundNumber), 0, -Gdx.graphics.getHeight(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         enemyParty.render(batch);
         Game.party.render(batch);
         battleMenu.render(batch);
@@ -0,0 +1,47 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * The html version of the batch worker. Browsers have no threads, so each task runs as soon as it is submitted.
+ */
+class BatchWorker implements Disposable {
+
+    /**
+     * Creates a new BatchWorker.
+     *
+     * @param name the name of the worker thread, which is unused
+     */
+    BatchWorker(String name) {
+    }
+
+    /**
+     * Runs a task straight away.
+     *
+     * @param task the task
+     * @throws GdxRuntimeException if the task throws an exception
+     */
+    void submit(AsyncTask<?> task) {
+        try {
+            task.call();
+        } catch (Exception e) {
+            throw new GdxRuntimeException("Task failed", e);
+        }
+    }
+
+    /**
+     * @return false, since tasks finish before submit returns
+     */
+    boolean isBusy() {
+        return false;
+    }
+
+    /**
+     * Does nothing, since there is no thread to stop.
+     */
+    @Override
+    public void dispose() {
+    }
+}
@@ -0,0 +1,73 @@
+package com.mygdx.game.entity;
+
+/**
+ * Represents the direction that an entity is facing or moving in.
+ */
+public enum Direction {
+    DOWN(0, 0, -1), UP(1, 0, 1), LEFT(2, -1, 0), RIGHT(3, 1, 0);
+
+    /**
+     * Every Direction, kept because values() copies the array each time it is called.
+     */
+    private static final Direction[] VALUES = values();
+
+    /**
+     * The index of this Direction in texture arrays.
+     */
+    private int index;
+
+    /**
+     * The change in tile coordinates when moving one tile in this Direction.
+     */
+    private int deltaX, deltaY;
+
+    /**
+     * Creates a new Direction with the specified parameters.
+     *
+     * @param index  the index of the direction in texture arrays
+     * @param deltaX the change in x when moving one tile in the direction
+     * @param deltaY the change in y when moving one tile in the direction
+     */
+    Direction(int index, int deltaX, int deltaY) {
+        this.index = index;
+        this.deltaX = deltaX;
+        this.deltaY = deltaY;
+    }
+
+    /**
+     * @return the direction represented (down: 0, up: 1, left: 2, right: 3)
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the change in x when moving one tile in this Direction
+     */
+    public int getDeltaX() {
+        return deltaX;
+    }
+
+    /**
+     * @return the change in y when moving one tile in this Direction
+     */
+    public int getDeltaY() {
+        return deltaY;
+    }
+
+    /**
+     * Gets the Direction which moves one tile by the specified change in tile coordinates.
+     *
+     * @param deltaX the change in x
+     * @param deltaY the change in y
+     * @return the direction, or null if the change isn't a single step
+     */
+    public static Direction fromDelta(int deltaX, int deltaY) {
+        for (Direction direction : VALUES) {
+            if (direction.deltaX == deltaX && direction.deltaY == deltaY) {
+                return direction;
+            }
+        }
+        return null;
+    }
+}
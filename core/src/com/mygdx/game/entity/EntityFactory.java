@@ -0,0 +1,105 @@
+package com.mygdx.game.entity;
+
+import com.badlogic.ashley.core.Entity;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.assets.WalkingTextures;
+import com.mygdx.game.entity.components.AnimationComponent;
+import com.mygdx.game.entity.components.InteractionComponent;
+import com.mygdx.game.entity.components.LodComponent;
+import com.mygdx.game.entity.components.PathComponent;
+import com.mygdx.game.entity.components.PlayerComponent;
+import com.mygdx.game.entity.components.TileMovementComponent;
+import com.mygdx.game.entity.components.WanderComponent;
+
+/**
+ * Creates the entities that make up the overworld.
+ */
+public final class EntityFactory {
+
+    /**
+     * EntityFactory only has static methods and is not instantiated.
+     */
+    private EntityFactory() {
+    }
+
+    /**
+     * Creates the player.
+     *
+     * @param tileX the x coordinate of the tile the player starts on
+     * @param tileY the y coordinate of the tile the player starts on
+     * @return the player entity
+     */
+    public static Entity createPlayer(int tileX, int tileY) {
+        Entity entity = createCharacter(tileX, tileY, Direction.UP, Assets.playerWalkingTextures);
+
+        /**
+         * CHANGE M6: Swimming movement mode was added, which activated when the player navigates over water.
+         */
+        entity.getComponent(AnimationComponent.class).swimmingTextures = Assets.playerSwimmingTextures;
+        entity.add(new PlayerComponent());
+        return entity;
+    }
+
+    /**
+     * Creates a non-player character which the player can interact with. It is simulated less often when it is away
+     * from the player.
+     *
+     * @param tileX           the x coordinate of the tile the character starts on
+     * @param tileY           the y coordinate of the tile the character starts on
+     * @param walkingTextures the walking textures to use
+     * @param interaction     what happens when the player interacts with the character
+     * @return the character entity
+     */
+    public static Entity createNPC(int tileX, int tileY, WalkingTextures walkingTextures, Interaction interaction) {
+        Entity entity = createCharacter(tileX, tileY, Direction.DOWN, walkingTextures);
+
+        InteractionComponent interactionComponent = new InteractionComponent();
+        interactionComponent.interaction = interaction;
+        entity.add(interactionComponent);
+        entity.add(new LodComponent());
+        return entity;
+    }
+
+    /**
+     * Makes a character wander around the tile it starts on, walking along paths found by the level.
+     *
+     * @param entity the character
+     * @param radius the furthest the character wanders from its starting tile, in tiles
+     * @return the character entity
+     */
+    public static Entity addWander(Entity entity, int radius) {
+        TileMovementComponent movement = Mappers.movement.get(entity);
+
+        WanderComponent wander = new WanderComponent();
+        wander.homeX = movement.tileX;
+        wander.homeY = movement.tileY;
+        wander.radius = radius;
+        entity.add(wander);
+        entity.add(new PathComponent());
+        return entity;
+    }
+
+    /**
+     * Creates a character which moves between tiles and is drawn with walking textures.
+     *
+     * @param tileX           the x coordinate of the tile the character starts on
+     * @param tileY           the y coordinate of the tile the character starts on
+     * @param direction       the direction the character starts facing
+     * @param walkingTextures the walking textures to use
+     * @return the character entity
+     */
+    private static Entity createCharacter(int tileX, int tileY, Direction direction, WalkingTextures walkingTextures) {
+        Entity entity = new Entity();
+
+        TileMovementComponent movement = new TileMovementComponent();
+        movement.setTile(tileX, tileY);
+        movement.direction = direction;
+        entity.add(movement);
+
+        AnimationComponent animation = new AnimationComponent();
+        animation.walkingTextures = walkingTextures;
+        animation.region = walkingTextures.getTexture(direction, 0);
+        entity.add(animation);
+        return entity;
+    }
+}
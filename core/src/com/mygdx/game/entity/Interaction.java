@@ -0,0 +1,34 @@
+package com.mygdx.game.entity;
+
+import com.badlogic.ashley.core.Entity;
+import com.mygdx.game.GameWorld;
+import com.mygdx.game.ui.UIManager;
+
+/**
+ * Represents what happens when the player interacts with a non-player character.
+ */
+public interface Interaction {
+
+    /**
+     * Called when the player first interacts with the character.
+     *
+     * @param uiManager the UI manager to show messages on
+     */
+    void begin(UIManager uiManager);
+
+    /**
+     * Called every update while the player interacts with the character.
+     *
+     * @param delta the time elapsed since the last update
+     * @return true if the interaction should continue
+     */
+    boolean update(float delta);
+
+    /**
+     * Called when the player has finished interacting with the character.
+     *
+     * @param gameWorld the game world the character is in
+     * @param entity    the character
+     */
+    void end(GameWorld gameWorld, Entity entity);
+}
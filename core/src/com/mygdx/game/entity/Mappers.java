@@ -0,0 +1,57 @@
+package com.mygdx.game.entity;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.mygdx.game.entity.components.AnimationComponent;
+import com.mygdx.game.entity.components.InteractionComponent;
+import com.mygdx.game.entity.components.LodComponent;
+import com.mygdx.game.entity.components.PathComponent;
+import com.mygdx.game.entity.components.PlayerComponent;
+import com.mygdx.game.entity.components.TileMovementComponent;
+import com.mygdx.game.entity.components.WanderComponent;
+
+/**
+ * Holds the component mappers used to quickly get the components of an entity.
+ */
+public final class Mappers {
+
+    /**
+     * Maps entities to their tile movement component.
+     */
+    public static final ComponentMapper<TileMovementComponent> movement = ComponentMapper.getFor(TileMovementComponent.class);
+
+    /**
+     * Maps entities to their animation component.
+     */
+    public static final ComponentMapper<AnimationComponent> animation = ComponentMapper.getFor(AnimationComponent.class);
+
+    /**
+     * Maps entities to their interaction component.
+     */
+    public static final ComponentMapper<InteractionComponent> interaction = ComponentMapper.getFor(InteractionComponent.class);
+
+    /**
+     * Maps entities to their player component.
+     */
+    public static final ComponentMapper<PlayerComponent> player = ComponentMapper.getFor(PlayerComponent.class);
+
+    /**
+     * Maps entities to their path component.
+     */
+    public static final ComponentMapper<PathComponent> path = ComponentMapper.getFor(PathComponent.class);
+
+    /**
+     * Maps entities to their wander component.
+     */
+    public static final ComponentMapper<WanderComponent> wander = ComponentMapper.getFor(WanderComponent.class);
+
+    /**
+     * Maps entities to their level of detail component.
+     */
+    public static final ComponentMapper<LodComponent> lod = ComponentMapper.getFor(LodComponent.class);
+
+    /**
+     * Mappers is a holder of constants and is not instantiated.
+     */
+    private Mappers() {
+    }
+}
@@ -1,6 +1,6 @@
 package com.mygdx.game.entity;
 
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.ashley.core.Entity;
 import com.mygdx.game.*;
 import com.mygdx.game.assets.Assets;
 import com.mygdx.game.battle.BattleParameters;
@@ -11,9 +11,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Represents the robot boss of the game.
+ * Represents challenging the robot boss of the game.
  */
-public class RoboNPC extends NPC {
+public class RoboInteraction implements Interaction {
 
     /**
      * The messages to display on the dialogue.
@@ -21,46 +21,49 @@ public class RoboNPC extends NPC {
     private String[] messages;
 
     /**
-     * Creates a new RoboNPC in the specified level at the specified tile.
-     *
-     * @param level       the level this RoboNPC belongs to
-     * @param currentTile the tile this RoboNPC begins on
+     * The UI manager to show messages on.
      */
-    public RoboNPC(Level level, Vector2 currentTile) {
-        super(level, currentTile, Assets.roboWalkingTextures);
+    private UIManager uiManager;
+
+    /**
+     * Creates a new RoboInteraction.
+     */
+    public RoboInteraction() {
         messages = new String[2];
         messages[0] = "01011001 01101111 01110101 00100000 01110111 01101001 01101100 01101100 00100000 01101110 01100101 01110110 01100101 01110010 00100000 01100100 01100101 01100110 01100101 01100001 01110100 00100000 01101101 01100101 00100001!!!";
         messages[1] = "Robo duck has challenged you to a battle.";
     }
 
     /**
-     * Called when a player first interacts with this RoboNPC.
+     * Called when the player first interacts with the robot.
      *
-     * @param delta     the time elapsed since the last update
      * @param uiManager the UI manager to show messages on
      */
     @Override
-    public void initializeInteraction(float delta, UIManager uiManager) {
+    public void begin(UIManager uiManager) {
         uiManager.createDialogue(messages);
         this.uiManager = uiManager;
     }
 
     /**
-     * Called every frame while a player interacts with this RoboNPC.
+     * Called every update while the player interacts with the robot.
      *
      * @param delta the time elapsed since the last update
-     * @return true if update should continue
+     * @return true if the interaction should continue
      */
     @Override
-    public boolean updateInteracting(float delta) {
+    public boolean update(float delta) {
         return uiManager.updateDialogue(delta);
     }
 
     /**
-     * Called when a player has finished interacting with this RoboNPC.
+     * Called when the player has finished interacting with the robot, starting the boss battle.
+     *
+     * @param gameWorld the game world the robot is in
+     * @param entity    the robot
      */
     @Override
-    public void action(GameWorld gameWorld) {
+    public void end(GameWorld gameWorld, Entity entity) {
         Assets.sfxBattleStart.play(Game.masterVolume);
         uiManager.addNotification("Robo Duck has been defeated.");
         BattleParameters params = new BattleParameters(Game.segment);
@@ -77,24 +80,6 @@ public class RoboNPC extends NPC {
             ((DefeatRoboduckObjective) Game.objective).roboduckDefeated();
         }
 
-        level.characters.remove(this);
-    }
-
-    /**
-     * Not implemented.
-     *
-     * @param delta the time elapsed since the last update
-     */
-    @Override
-    protected void updateTransitioning(float delta) {
-    }
-
-    /**
-     * Not implemented.
-     *
-     * @param delta the time elapsed since the last update
-     */
-    @Override
-    protected void updateStationary(float delta) {
+        gameWorld.level.removeEntity(entity);
     }
 }
@@ -1,33 +1,25 @@
 package com.mygdx.game.entity;
 
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.ashley.core.Entity;
 import com.mygdx.game.Game;
 import com.mygdx.game.GameWorld;
-import com.mygdx.game.Level;
-import com.mygdx.game.assets.Assets;
 import com.mygdx.game.ui.UIManager;
 import com.mygdx.game.ui.UIShop;
 
 /**
- * Represents the shop keeper NPC.
+ * Represents talking to the shop keeper NPC.
  */
-public class SallyNPC extends NPC {
+public class SallyInteraction implements Interaction {
 
     /**
-     * Whether this SallyNPC has finished interacting with the player.
+     * Whether the player has finished interacting with this shop keeper.
      */
     private boolean doneInteraction;
 
     /**
-     * Creates a new SallyNPC in the specified level at the specified tile.
-     *
-     * @param level       the level this SallyNPC belongs to
-     * @param currentTile the tile this SallyNPC begins on
+     * The UI manager to show messages on.
      */
-    public SallyNPC(Level level, Vector2 currentTile) {
-        super(level, currentTile, Assets.sallyWalkingTextures);
-        doneInteraction = false;
-    }
+    private UIManager uiManager;
 
     /**
      * @return the dialogue messages to use depending on the game segment
@@ -81,13 +73,12 @@ public class SallyNPC extends NPC {
     }
 
     /**
-     * Called when a player first interacts with this SallyNPC.
+     * Called when the player first talks to this shop keeper.
      *
-     * @param delta     the time elapsed since the last update
      * @param uiManager the UI manager to show messages on
      */
     @Override
-    public void initializeInteraction(float delta, UIManager uiManager) {
+    public void begin(UIManager uiManager) {
         if (!doneInteraction) {
             uiManager.createDialogue(getMessage());
             this.uiManager = uiManager;
@@ -95,44 +86,29 @@ public class SallyNPC extends NPC {
     }
 
     /**
-     * Called every frame while a player interacts with this SallyNPC.
+     * Called every update while the player talks to this shop keeper.
      *
      * @param delta the time elapsed since the last update
-     * @return true if update should continue
+     * @return true if the interaction should continue
      */
     @Override
-    public boolean updateInteracting(float delta) {
+    public boolean update(float delta) {
         return !doneInteraction && uiManager.updateDialogue(delta);
     }
 
     /**
-     * Called when a player has finished interacting with this SallyNPC.
+     * Called when the player has finished talking to this shop keeper, opening the shop.
+     *
+     * @param gameWorld the game world the shop keeper is in
+     * @param entity    the shop keeper
      */
     @Override
-    public void action(GameWorld gameWorld) {
+    public void end(GameWorld gameWorld, Entity entity) {
         if (!doneInteraction) {
-            Game.worldScreen.getGameWorld().setShop(new UIShop(100, 500, 910, 440, Game.party, Game.shops.getShop(Game.segment)));
+            gameWorld.setShop(new UIShop(100, 500, 910, 440, Game.party, Game.shops.getShop(Game.segment)));
             uiManager.addNotification("You gained 50 points.");
             Game.pointsScore += 50;
             doneInteraction = true;
         }
     }
-
-    /**
-     * Not implemented.
-     *
-     * @param delta the time elapsed since the last update
-     */
-    @Override
-    protected void updateTransitioning(float delta) {
-    }
-
-    /**
-     * Not implemented.
-     *
-     * @param delta the time elapsed since the last update
-     */
-    @Override
-    protected void updateStationary(float delta) {
-    }
 }
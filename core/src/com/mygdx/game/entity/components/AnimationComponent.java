@@ -0,0 +1,31 @@
+package com.mygdx.game.entity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.mygdx.game.assets.WalkingTextures;
+
+/**
+ * Holds the textures an entity is drawn with and its current frame.
+ */
+public class AnimationComponent implements Component {
+
+    /**
+     * The textures used while on land.
+     */
+    public WalkingTextures walkingTextures;
+
+    /**
+     * The textures used while in water, or null to use the walking textures everywhere.
+     */
+    public WalkingTextures swimmingTextures;
+
+    /**
+     * How long the entity has been moving, used to pick the animation frame.
+     */
+    public float stateTime;
+
+    /**
+     * The texture to draw the entity with, chosen by the animation system each update.
+     */
+    public TextureRegion region;
+}
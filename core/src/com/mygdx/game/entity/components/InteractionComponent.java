@@ -0,0 +1,15 @@
+package com.mygdx.game.entity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.mygdx.game.entity.Interaction;
+
+/**
+ * Marks an entity as one the player can interact with.
+ */
+public class InteractionComponent implements Component {
+
+    /**
+     * What happens when the player interacts with the entity.
+     */
+    public Interaction interaction;
+}
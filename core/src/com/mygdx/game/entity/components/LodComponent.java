@@ -0,0 +1,29 @@
+package com.mygdx.game.entity.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Lets an entity be simulated less often when it is away from the player. Entities without one are updated every step.
+ */
+public class LodComponent implements Component {
+
+    /**
+     * How often the entity is updated, one of the tiers in {@link com.mygdx.game.entity.systems.SimulationLodSystem}.
+     */
+    public int tier;
+
+    /**
+     * Whether the entity is updated this step.
+     */
+    public boolean ticking;
+
+    /**
+     * The time to simulate for the entity this step, in seconds, if it is ticking.
+     */
+    public float delta;
+
+    /**
+     * The time that has passed since the entity was last updated, in seconds.
+     */
+    public float pending;
+}
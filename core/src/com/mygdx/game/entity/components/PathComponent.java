@@ -0,0 +1,44 @@
+package com.mygdx.game.entity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.mygdx.game.pathfinding.PathListener;
+import com.mygdx.game.pathfinding.TilePath;
+
+/**
+ * Holds the path an entity is walking along, and receives the path once it has been found.
+ */
+public class PathComponent implements Component, PathListener {
+
+    /**
+     * The path being followed, or null if the entity isn't following a path.
+     */
+    public TilePath path;
+
+    /**
+     * The position along the path of the tile the entity is walking to next.
+     */
+    public int index;
+
+    /**
+     * Whether the entity is waiting for a path to be found.
+     */
+    public boolean pending;
+
+    /**
+     * How long the entity has been unable to step onto the next tile, in seconds.
+     */
+    public float blockedTime;
+
+    /**
+     * Starts following the path that was found.
+     *
+     * @param path the path, or null if the goal can't be reached
+     */
+    @Override
+    public void pathFound(TilePath path) {
+        this.path = path;
+        index = 1;
+        pending = false;
+        blockedTime = 0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.mygdx.game.entity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * Marks an entity as the player, which is moved by keyboard input.
+ */
+public class PlayerComponent implements Component {
+
+    /**
+     * The entity the player is facing and can interact with, or null if there is none.
+     */
+    public Entity facing;
+}
@@ -0,0 +1,89 @@
+package com.mygdx.game.entity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+import com.mygdx.game.entity.Direction;
+
+import static com.mygdx.game.Level.TILE_SIZE;
+
+/**
+ * Holds the position of an entity that moves one tile at a time.
+ */
+public class TileMovementComponent implements Component {
+
+    /**
+     * The time taken to move between tiles in seconds.
+     */
+    public static final float TRANSITION_TIME = 0.25f;
+
+    /**
+     * The tile the entity is on.
+     */
+    public int tileX, tileY;
+
+    /**
+     * The tile the entity is moving to. The same as the current tile if it isn't moving.
+     */
+    public int targetX, targetY;
+
+    /**
+     * The absolute position of the entity in the world in pixels.
+     */
+    public float x, y;
+
+    /**
+     * The absolute position of the entity before the last update, used to interpolate where it is drawn.
+     */
+    public float previousX, previousY;
+
+    /**
+     * The direction the entity is facing.
+     */
+    public Direction direction = Direction.UP;
+
+    /**
+     * The direction the entity wants to move in next update, or null to stay still. Cleared once acted on.
+     */
+    public Direction intent;
+
+    /**
+     * The direction to face once the current move is finished, or null to keep facing the same way.
+     */
+    public Direction arrivalDirection;
+
+    /**
+     * Whether the entity is moving between tiles.
+     */
+    public boolean moving;
+
+    /**
+     * How long the entity has been moving to its target tile.
+     */
+    public float moveTime;
+
+    /**
+     * Places the entity on the specified tile, stopping any movement.
+     *
+     * @param tileX the x coordinate of the tile
+     * @param tileY the y coordinate of the tile
+     */
+    public void setTile(int tileX, int tileY) {
+        this.tileX = targetX = tileX;
+        this.tileY = targetY = tileY;
+        x = previousX = tileX * TILE_SIZE;
+        y = previousY = tileY * TILE_SIZE;
+        moving = false;
+        moveTime = 0;
+    }
+
+    /**
+     * Gets the position to draw the entity at, between its positions before and after the last update.
+     *
+     * @param alpha how far between the two positions, from 0 to 1
+     * @param out   the vector to store the position in
+     * @return the draw position
+     */
+    public Vector2 getDrawPosition(float alpha, Vector2 out) {
+        return out.set(previousX + (x - previousX) * alpha, previousY + (y - previousY) * alpha);
+    }
+}
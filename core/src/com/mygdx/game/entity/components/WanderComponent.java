@@ -0,0 +1,24 @@
+package com.mygdx.game.entity.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Makes an entity walk to random tiles near its home tile.
+ */
+public class WanderComponent implements Component {
+
+    /**
+     * The tile the entity wanders around.
+     */
+    public int homeX, homeY;
+
+    /**
+     * The furthest the entity wanders from its home tile, in tiles.
+     */
+    public int radius;
+
+    /**
+     * The time left before the entity picks somewhere new to walk to, in seconds.
+     */
+    public float waitTime;
+}
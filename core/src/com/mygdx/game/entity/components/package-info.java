@@ -0,0 +1,4 @@
+/**
+ * Contains the components that overworld entities are made up of.
+ */
+package com.mygdx.game.entity.components;
@@ -0,0 +1,55 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.mygdx.game.Level;
+import com.mygdx.game.assets.WalkingTextures;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.AnimationComponent;
+import com.mygdx.game.entity.components.TileMovementComponent;
+
+/**
+ * Advances the walking animation of entities and picks the texture each is drawn with.
+ */
+public class AnimationSystem extends LodIteratingSystem {
+
+    /**
+     * The level the entities are in.
+     */
+    private Level level;
+
+    /**
+     * Creates a new AnimationSystem for the specified level.
+     *
+     * @param level    the level the entities are in
+     * @param priority the order this system is updated in, lowest first
+     */
+    public AnimationSystem(Level level, int priority) {
+        super(Family.all(AnimationComponent.class, TileMovementComponent.class).get(), priority);
+        this.level = level;
+    }
+
+    /**
+     * Advances the animation while the entity is moving, and resets it otherwise.
+     *
+     * @param entity    the entity
+     * @param deltaTime the time elapsed since the last update
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        AnimationComponent animation = Mappers.animation.get(entity);
+        TileMovementComponent movement = Mappers.movement.get(entity);
+
+        if (movement.moving) {
+            animation.stateTime += deltaTime;
+        } else {
+            animation.stateTime = 0;
+        }
+
+        WalkingTextures textures = animation.walkingTextures;
+        if (animation.swimmingTextures != null && level.checkWater(movement.tileX, movement.tileY)) {
+            textures = animation.swimmingTextures;
+        }
+        animation.region = textures.getTexture(movement.direction, animation.stateTime);
+    }
+}
@@ -0,0 +1,157 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * Runs one task at a time on a long-lived worker thread. Unlike {@link com.badlogic.gdx.utils.async.AsyncExecutor},
+ * handing over a task allocates nothing, so a system can start a batch on any update without creating garbage.
+ * <p>
+ * The html build replaces this class with one that runs each task straight away, since browsers have no threads.
+ */
+class BatchWorker implements Disposable {
+
+    /**
+     * Guards the task and state shared with the worker thread.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The task waiting to run or running, or null if the worker is idle.
+     */
+    private AsyncTask<?> task;
+
+    /**
+     * What the last task threw, or null if it finished normally.
+     */
+    private Throwable failure;
+
+    /**
+     * Whether the worker thread has been asked to stop.
+     */
+    private boolean stopped;
+
+    /**
+     * The worker thread.
+     */
+    private Thread thread;
+
+    /**
+     * Creates a new BatchWorker and starts its thread.
+     *
+     * @param name the name of the worker thread
+     */
+    BatchWorker(String name) {
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runTasks();
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Waits for tasks and runs them until the worker is stopped or its thread is interrupted.
+     */
+    private void runTasks() {
+        while (true) {
+            AsyncTask<?> next;
+            synchronized (lock) {
+                while (task == null && !stopped) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        // Nothing may wait on the worker any more, so stop, keeping the interrupt set.
+                        stopped = true;
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                if (stopped) {
+                    if (task != null) {
+                        failure = new GdxRuntimeException("The worker stopped before running its task");
+                        task = null;
+                    }
+                    lock.notifyAll();
+                    return;
+                }
+                next = task;
+            }
+
+            Throwable thrown = null;
+            try {
+                next.call();
+            } catch (Throwable t) {
+                thrown = t;
+            }
+
+            synchronized (lock) {
+                failure = thrown;
+                task = null;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Starts running a task on the worker thread.
+     *
+     * @param task the task
+     * @throws GdxRuntimeException if a task is already running or the worker has stopped
+     */
+    void submit(AsyncTask<?> task) {
+        synchronized (lock) {
+            if (stopped) {
+                throw new GdxRuntimeException("The worker has stopped");
+            }
+            if (this.task != null) {
+                throw new GdxRuntimeException("A task is already running");
+            }
+            this.task = task;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Checks whether a task is still running. Once this returns false, everything the task wrote can be read.
+     *
+     * @return true if a task is running
+     * @throws GdxRuntimeException if the last task threw an exception
+     */
+    boolean isBusy() {
+        synchronized (lock) {
+            if (failure != null) {
+                Throwable thrown = failure;
+                failure = null;
+                throw new GdxRuntimeException("Task failed", thrown);
+            }
+            return task != null;
+        }
+    }
+
+    /**
+     * Waits for any running task to finish, stops the worker thread and waits for it to end. If the calling thread is
+     * interrupted, this stops waiting and leaves the interrupt set; the worker still ends once its task is done.
+     */
+    @Override
+    public void dispose() {
+        try {
+            synchronized (lock) {
+                while (task != null && thread.isAlive()) {
+                    lock.wait();
+                }
+                stopped = true;
+                lock.notifyAll();
+            }
+            thread.join();
+        } catch (InterruptedException e) {
+            synchronized (lock) {
+                stopped = true;
+                lock.notifyAll();
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.mygdx.game.Level;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.PlayerComponent;
+import com.mygdx.game.entity.components.TileMovementComponent;
+
+/**
+ * Finds the entity the player can interact with, which is the one on the tile the player is facing.
+ */
+public class InteractionSystem extends IteratingSystem {
+
+    /**
+     * The level the player is in.
+     */
+    private Level level;
+
+    /**
+     * Creates a new InteractionSystem for the specified level.
+     *
+     * @param level    the level the player is in
+     * @param priority the order this system is updated in, lowest first
+     */
+    public InteractionSystem(Level level, int priority) {
+        super(Family.all(PlayerComponent.class, TileMovementComponent.class).get(), priority);
+        this.level = level;
+    }
+
+    /**
+     * Updates which entity the player is facing.
+     *
+     * @param entity    the player
+     * @param deltaTime the time elapsed since the last update
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TileMovementComponent movement = Mappers.movement.get(entity);
+        Entity facing = level.getEntityAt(movement.tileX + movement.direction.getDeltaX(),
+                movement.tileY + movement.direction.getDeltaY());
+
+        Mappers.player.get(entity).facing = facing != null && Mappers.interaction.has(facing) ? facing : null;
+    }
+}
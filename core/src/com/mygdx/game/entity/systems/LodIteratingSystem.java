@@ -0,0 +1,40 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * An iterating system which only processes the entities that {@link SimulationLodSystem} decided to update this step,
+ * passing each the time it should simulate.
+ */
+public abstract class LodIteratingSystem extends IteratingSystem {
+
+    /**
+     * Creates a new LodIteratingSystem for the specified family.
+     *
+     * @param family   the family of entities to process
+     * @param priority the order this system is updated in, lowest first
+     */
+    public LodIteratingSystem(Family family, int priority) {
+        super(family, priority);
+    }
+
+    /**
+     * Processes each entity which is updated this step.
+     *
+     * @param deltaTime the time elapsed since the last update
+     */
+    @Override
+    public void update(float deltaTime) {
+        ImmutableArray<Entity> entities = getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            float tickDelta = SimulationLodSystem.getTickDelta(entity, deltaTime);
+            if (tickDelta > 0) {
+                processEntity(entity, tickDelta);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.mygdx.game.Level;
+import com.mygdx.game.entity.Direction;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.TileMovementComponent;
+
+import static com.mygdx.game.Level.TILE_SIZE;
+
+/**
+ * Moves entities between tiles, acting on their movement intents.
+ */
+public class MovementSystem extends LodIteratingSystem {
+
+    /**
+     * The level the entities move around.
+     */
+    private Level level;
+
+    /**
+     * Creates a new MovementSystem for the specified level.
+     *
+     * @param level    the level the entities move around
+     * @param priority the order this system is updated in, lowest first
+     */
+    public MovementSystem(Level level, int priority) {
+        super(Family.all(TileMovementComponent.class).get(), priority);
+        this.level = level;
+    }
+
+    /**
+     * Starts a move if the entity has asked to move, or continues its current move.
+     *
+     * @param entity    the entity
+     * @param deltaTime the time elapsed since the last update
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TileMovementComponent movement = Mappers.movement.get(entity);
+        movement.previousX = movement.x;
+        movement.previousY = movement.y;
+
+        if (level.stopInput) {
+            movement.intent = null;
+            return;
+        }
+
+        if (movement.moving) {
+            updateMove(entity, movement, deltaTime);
+        } else if (movement.intent != null) {
+            startMove(entity, movement, movement.intent);
+            movement.intent = null;
+        }
+    }
+
+    /**
+     * Turns the entity to face the specified direction and starts moving it to the next tile, if that tile is free.
+     *
+     * @param entity    the entity
+     * @param movement  the movement component of the entity
+     * @param direction the direction to move in
+     */
+    private void startMove(Entity entity, TileMovementComponent movement, Direction direction) {
+        movement.direction = direction;
+
+        int targetX = movement.tileX + direction.getDeltaX();
+        int targetY = movement.tileY + direction.getDeltaY();
+        if (!level.checkCollision(targetX, targetY)) {
+            movement.moving = true;
+            movement.targetX = targetX;
+            movement.targetY = targetY;
+            level.occupy(entity, targetX, targetY);
+        }
+    }
+
+    /**
+     * Moves the entity towards its target tile, and places it on the target tile once it gets there.
+     *
+     * @param entity    the entity
+     * @param movement  the movement component of the entity
+     * @param deltaTime the time elapsed since the last update
+     */
+    private void updateMove(Entity entity, TileMovementComponent movement, float deltaTime) {
+        movement.moveTime += deltaTime;
+        float t = Math.min(movement.moveTime / TileMovementComponent.TRANSITION_TIME, 1);
+        movement.x = (movement.tileX + (movement.targetX - movement.tileX) * t) * TILE_SIZE;
+        movement.y = (movement.tileY + (movement.targetY - movement.tileY) * t) * TILE_SIZE;
+
+        if (t >= 1) {
+            movement.moving = false;
+            movement.moveTime = 0;
+            level.vacate(entity, movement.tileX, movement.tileY);
+            movement.tileX = movement.targetX;
+            movement.tileY = movement.targetY;
+            if (movement.arrivalDirection != null) {
+                movement.direction = movement.arrivalDirection;
+                movement.arrivalDirection = null;
+            }
+            level.entityArrived(entity);
+        }
+    }
+}
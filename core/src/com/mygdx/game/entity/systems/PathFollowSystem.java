@@ -0,0 +1,78 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.mygdx.game.Level;
+import com.mygdx.game.entity.Direction;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.PathComponent;
+import com.mygdx.game.entity.components.TileMovementComponent;
+import com.mygdx.game.pathfinding.TilePath;
+
+/**
+ * Walks entities along their paths one tile at a time, by setting their movement intents.
+ */
+public class PathFollowSystem extends LodIteratingSystem {
+
+    /**
+     * How long an entity waits for another character to get out of its way before giving up on its path, in seconds.
+     */
+    public static final float MAX_BLOCKED_TIME = 1f;
+
+    /**
+     * The level the entities walk around.
+     */
+    private Level level;
+
+    /**
+     * Creates a new PathFollowSystem for the specified level.
+     *
+     * @param level    the level the entities walk around
+     * @param priority the order this system is updated in, lowest first
+     */
+    public PathFollowSystem(Level level, int priority) {
+        super(Family.all(PathComponent.class, TileMovementComponent.class).get(), priority);
+        this.level = level;
+    }
+
+    /**
+     * Asks the entity to step onto the next tile of its path, once it has finished its last step.
+     *
+     * @param entity    the entity
+     * @param deltaTime the time elapsed since the last update
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PathComponent path = Mappers.path.get(entity);
+        TileMovementComponent movement = Mappers.movement.get(entity);
+        if (path.path == null || movement.moving || level.stopInput) {
+            return;
+        }
+
+        TilePath tiles = path.path;
+        if (path.index < tiles.getLength() && tiles.getX(path.index) == movement.tileX
+                && tiles.getY(path.index) == movement.tileY) {
+            path.index++;
+        }
+
+        // Stop at the end of the path, or if the entity has been moved off it.
+        if (path.index >= tiles.getLength() || tiles.getX(path.index - 1) != movement.tileX
+                || tiles.getY(path.index - 1) != movement.tileY) {
+            path.path = null;
+            return;
+        }
+
+        int nextX = tiles.getX(path.index);
+        int nextY = tiles.getY(path.index);
+        if (level.checkCollision(nextX, nextY)) {
+            path.blockedTime += deltaTime;
+            if (path.blockedTime > MAX_BLOCKED_TIME) {
+                path.path = null;
+            }
+            return;
+        }
+
+        path.blockedTime = 0;
+        movement.intent = Direction.fromDelta(nextX - movement.tileX, nextY - movement.tileY);
+    }
+}
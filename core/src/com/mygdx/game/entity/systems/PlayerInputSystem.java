@@ -0,0 +1,78 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.mygdx.game.InputHandler;
+import com.mygdx.game.Level;
+import com.mygdx.game.entity.Direction;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.PlayerComponent;
+import com.mygdx.game.entity.components.TileMovementComponent;
+
+/**
+ * Turns keyboard input into movement intents for the player.
+ */
+public class PlayerInputSystem extends IteratingSystem {
+
+    /**
+     * The level the player is in.
+     */
+    private Level level;
+
+    /**
+     * Creates a new PlayerInputSystem for the specified level.
+     *
+     * @param level    the level the player is in
+     * @param priority the order this system is updated in, lowest first
+     */
+    public PlayerInputSystem(Level level, int priority) {
+        super(Family.all(PlayerComponent.class, TileMovementComponent.class).get(), priority);
+        this.level = level;
+    }
+
+    /**
+     * Reads the movement keys. While the player is still, a held key is a request to move; while moving, it is the
+     * direction to face on arriving.
+     *
+     * @param entity    the player
+     * @param deltaTime the time elapsed since the last update
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        if (level.stopInput) {
+            return;
+        }
+
+        TileMovementComponent movement = Mappers.movement.get(entity);
+        Direction direction = getHeldDirection();
+        if (direction == null) {
+            return;
+        }
+
+        if (!movement.moving) {
+            /**
+             * CHANGE N1: Single key press in an opposite direction will move you to the next tile rather than just turn you around.
+             */
+            movement.intent = direction;
+        } else {
+            movement.arrivalDirection = direction;
+        }
+    }
+
+    /**
+     * @return the direction of the movement key being held, or null if none are
+     */
+    private static Direction getHeldDirection() {
+        if (InputHandler.isUpPressed()) {
+            return Direction.UP;
+        } else if (InputHandler.isDownPressed()) {
+            return Direction.DOWN;
+        } else if (InputHandler.isLeftPressed()) {
+            return Direction.LEFT;
+        } else if (InputHandler.isRightPressed()) {
+            return Direction.RIGHT;
+        }
+        return null;
+    }
+}
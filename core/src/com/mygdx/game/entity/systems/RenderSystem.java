@@ -0,0 +1,81 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Vector2;
+import com.mygdx.game.Level;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.AnimationComponent;
+
+import java.util.ArrayList;
+
+/**
+ * Draws the entities in view in depth order. The world is updated in fixed steps and drawn in between them, so this
+ * system doesn't run as part of the engine update; the world renderer calls {@link #render} each frame instead.
+ */
+public class RenderSystem extends EntitySystem {
+
+    /**
+     * The width and height entities are drawn at in pixels.
+     */
+    public static final float DRAW_SIZE = 64;
+
+    /**
+     * The offset to draw entities at relative to their position.
+     */
+    private static final Vector2 TEXTURE_OFFSET = new Vector2(-2, 0);
+
+    /**
+     * The level the entities are in.
+     */
+    private Level level;
+
+    /**
+     * The entities in view this frame, reused between frames.
+     */
+    private ArrayList<Entity> visibleEntities = new ArrayList<Entity>();
+
+    /**
+     * The interpolated position of the entity being drawn.
+     */
+    private Vector2 drawPosition = new Vector2();
+
+    /**
+     * Creates a new RenderSystem for the specified level.
+     *
+     * @param level the level the entities are in
+     */
+    public RenderSystem(Level level) {
+        this.level = level;
+        setProcessing(false);
+    }
+
+    /**
+     * Draws each entity in the specified area. Must be called between batch.begin() and batch.end().
+     *
+     * @param batch  the batch to draw on
+     * @param x      the x coordinate of the bottom left of the area in view
+     * @param y      the y coordinate of the bottom left of the area in view
+     * @param width  the width of the area in view
+     * @param height the height of the area in view
+     * @param alpha  how far between the last two updates to draw entities, from 0 to 1
+     */
+    public void render(Batch batch, float x, float y, float width, float height, float alpha) {
+        // Widen the area by the size of an entity so those partly in view are drawn.
+        visibleEntities.clear();
+        level.getEntitiesInArea(x + TEXTURE_OFFSET.x - DRAW_SIZE, y + TEXTURE_OFFSET.y - DRAW_SIZE,
+                width + DRAW_SIZE, height + DRAW_SIZE, visibleEntities);
+
+        for (int i = 0; i < visibleEntities.size(); i++) {
+            Entity entity = visibleEntities.get(i);
+            AnimationComponent animation = Mappers.animation.get(entity);
+            if (animation == null || animation.region == null) {
+                continue;
+            }
+
+            Vector2 pos = Mappers.movement.get(entity).getDrawPosition(alpha, drawPosition);
+            batch.draw(animation.region, pos.x - TEXTURE_OFFSET.x, pos.y - TEXTURE_OFFSET.y, DRAW_SIZE, DRAW_SIZE);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.mygdx.game.Game;
+import com.mygdx.game.Level;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.LodComponent;
+import com.mygdx.game.entity.components.TileMovementComponent;
+
+import static com.mygdx.game.Level.TILE_SIZE;
+
+/**
+ * Decides how often each entity with a level of detail is simulated. Entities in or near the camera's view are updated
+ * every step. The view is set by the renderer each frame through {@link #setView(float, float, float, float)}. Other entities in the player's segment are updated every {@link #REDUCED_STEP} seconds, with
+ * the time they missed. Entities in any other segment are frozen until the player reaches their segment.
+ * <p>
+ * This must be the first system updated, and the systems which move entities read the decision through
+ * {@link LodIteratingSystem}.
+ */
+public class SimulationLodSystem extends IteratingSystem {
+
+    /**
+     * How far beyond the edges of the camera's view an entity is still updated every step, in tiles, so characters
+     * walking into view are already moving smoothly.
+     */
+    public static final int NEAR_MARGIN = 2;
+
+    /**
+     * How often entities away from the player in the player's segment are updated, in seconds.
+     */
+    public static final float REDUCED_STEP = 0.1f;
+
+    /**
+     * The tiers an entity can be updated in: every step, every {@link #REDUCED_STEP} seconds, or not at all.
+     */
+    public static final int NEAR = 0, REDUCED = 1, FROZEN = 2;
+
+    /**
+     * The level the entities are in.
+     */
+    private Level level;
+
+    /**
+     * The corners of the area of tiles updated every step, inclusive. The area is empty until the view is first set.
+     */
+    private int nearMinX, nearMinY, nearMaxX = -1, nearMaxY = -1;
+
+    /**
+     * Creates a new SimulationLodSystem for the specified level.
+     *
+     * @param level    the level the entities are in
+     * @param priority the order this system is updated in, lowest first
+     */
+    public SimulationLodSystem(Level level, int priority) {
+        super(Family.all(LodComponent.class, TileMovementComponent.class).get(), priority);
+        this.level = level;
+    }
+
+    /**
+     * Sets the area of the world the camera shows. Entities on the tiles it covers, and within {@link #NEAR_MARGIN}
+     * tiles of it, are updated every step until the view is next set.
+     *
+     * @param x      the x coordinate of the bottom left corner of the view, in world units
+     * @param y      the y coordinate of the bottom left corner of the view, in world units
+     * @param width  the width of the view, in world units
+     * @param height the height of the view, in world units
+     */
+    public void setView(float x, float y, float width, float height) {
+        nearMinX = (int) Math.floor(x / TILE_SIZE) - NEAR_MARGIN;
+        nearMinY = (int) Math.floor(y / TILE_SIZE) - NEAR_MARGIN;
+        nearMaxX = (int) Math.floor((x + width) / TILE_SIZE) + NEAR_MARGIN;
+        nearMaxY = (int) Math.floor((y + height) / TILE_SIZE) + NEAR_MARGIN;
+    }
+
+    /**
+     * Decides whether the entity is updated this step, and how much time it simulates.
+     *
+     * @param entity    the entity
+     * @param deltaTime the time elapsed since the last update
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        LodComponent lod = Mappers.lod.get(entity);
+        TileMovementComponent movement = Mappers.movement.get(entity);
+
+        int tier;
+        if (movement.tileX >= nearMinX && movement.tileX <= nearMaxX && movement.tileY >= nearMinY
+                && movement.tileY <= nearMaxY) {
+            tier = NEAR;
+        } else if (level.getSegment(movement.tileX, movement.tileY) == Game.segment) {
+            tier = REDUCED;
+        } else {
+            tier = FROZEN;
+        }
+
+        lod.tier = tier;
+        if (tier == NEAR) {
+            lod.ticking = true;
+            lod.delta = lod.pending + deltaTime;
+            lod.pending = 0;
+        } else if (tier == REDUCED) {
+            lod.pending += deltaTime;
+            lod.ticking = lod.pending >= REDUCED_STEP;
+            if (lod.ticking) {
+                lod.delta = lod.pending;
+                lod.pending = 0;
+            }
+        } else {
+            lod.ticking = false;
+            lod.pending = 0;
+        }
+
+        if (!lod.ticking) {
+            // The last position is only recorded when the entity is updated, so drawing would interpolate over the
+            // same move again. Hold the entity where it is until its next update.
+            movement.previousX = movement.x;
+            movement.previousY = movement.y;
+        }
+    }
+
+    /**
+     * Gets the time to simulate for an entity this step.
+     *
+     * @param entity    the entity
+     * @param deltaTime the time elapsed since the last update
+     * @return the time to simulate, or 0 if the entity isn't updated this step
+     */
+    public static float getTickDelta(Entity entity, float deltaTime) {
+        LodComponent lod = Mappers.lod.get(entity);
+        if (lod == null) {
+            return deltaTime;
+        }
+        return lod.ticking ? lod.delta : 0;
+    }
+}
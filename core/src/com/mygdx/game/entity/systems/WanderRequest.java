@@ -0,0 +1,62 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.game.pathfinding.PathListener;
+import com.mygdx.game.pathfinding.TilePath;
+
+/**
+ * One wandering entity's part of a batch of wander decisions. The render thread fills in where the entity is, the
+ * worker thread fills in where it decided to go, and the render thread then applies the decision.
+ */
+class WanderRequest implements PathListener, Pool.Poolable {
+
+    /**
+     * The entity the decision is for. Only touched on the render thread.
+     */
+    Entity entity;
+
+    /**
+     * The tile the entity is on.
+     */
+    int tileX, tileY;
+
+    /**
+     * The tile the entity wanders around.
+     */
+    int homeX, homeY;
+
+    /**
+     * The furthest the entity wanders from its home tile, in tiles.
+     */
+    int radius;
+
+    /**
+     * The path the entity should walk along, or null if it should stay where it is.
+     */
+    TilePath path;
+
+    /**
+     * How long the entity should wait after this walk before deciding again, in seconds.
+     */
+    float waitTime;
+
+    /**
+     * Records the path that was found for this WanderRequest.
+     *
+     * @param path the path, or null if the goal can't be reached
+     */
+    @Override
+    public void pathFound(TilePath path) {
+        this.path = path;
+    }
+
+    /**
+     * Clears this WanderRequest so it can be reused.
+     */
+    @Override
+    public void reset() {
+        entity = null;
+        path = null;
+    }
+}
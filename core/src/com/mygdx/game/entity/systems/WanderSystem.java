@@ -0,0 +1,207 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.game.Level;
+import com.mygdx.game.LevelSnapshot;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.PathComponent;
+import com.mygdx.game.entity.components.TileMovementComponent;
+import com.mygdx.game.entity.components.WanderComponent;
+
+/**
+ * Decides where wandering entities walk to once they have finished their last walk. The decisions and path searches
+ * for every entity that is ready are batched and run on a worker thread against a snapshot of the level, and the
+ * results are handed to the entities on a later update. Only one batch runs at a time.
+ */
+public class WanderSystem extends EntitySystem {
+
+    /**
+     * How long an entity stays still after the player talks to it, in seconds.
+     */
+    public static final float INTERACTION_COOLDOWN = 5f;
+
+    /**
+     * The seed for the batch seeds, so that wandering plays out the same way each game.
+     */
+    private static final long SEED = 0x5ca1ab1eL;
+
+    /**
+     * The level the entities wander around.
+     */
+    private Level level;
+
+    /**
+     * The entities which wander.
+     */
+    private ImmutableArray<Entity> entities;
+
+    /**
+     * The snapshot of the level read by the worker thread. Only retaken when no batch is running.
+     */
+    private LevelSnapshot snapshot = new LevelSnapshot();
+
+    /**
+     * The task which makes the decisions for a batch.
+     */
+    private WanderTask task;
+
+    /**
+     * Runs the task on a worker thread without allocating for each batch.
+     */
+    private BatchWorker worker = new BatchWorker("WanderSystem");
+
+    /**
+     * Whether a batch has been started and its decisions not yet applied.
+     */
+    private boolean batchRunning;
+
+    /**
+     * Generates the seed for each batch.
+     */
+    private RandomXS128 random = new RandomXS128(SEED);
+
+    /**
+     * Pools the requests, which are reused between batches.
+     */
+    private Pool<WanderRequest> requestPool = new Pool<WanderRequest>() {
+        @Override
+        protected WanderRequest newObject() {
+            return new WanderRequest();
+        }
+    };
+
+    /**
+     * Creates a new WanderSystem for the specified level.
+     *
+     * @param level    the level the entities wander around
+     * @param priority the order this system is updated in, lowest first
+     */
+    public WanderSystem(Level level, int priority) {
+        super(priority);
+        this.level = level;
+        level.takeSnapshot(snapshot);
+        task = new WanderTask(snapshot);
+    }
+
+    /**
+     * Finds the entities which wander when this system is added to an engine.
+     *
+     * @param engine the engine
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(Family.all(WanderComponent.class, PathComponent.class, TileMovementComponent.class).get());
+    }
+
+    /**
+     * Counts down the time until each idle entity next walks, applies the decisions of the last batch once it has
+     * finished, and starts a new batch for the entities which are ready.
+     *
+     * @param deltaTime the time elapsed since the last update
+     */
+    @Override
+    public void update(float deltaTime) {
+        for (Entity entity : entities) {
+            PathComponent path = Mappers.path.get(entity);
+            if (!path.pending && path.path == null) {
+                Mappers.wander.get(entity).waitTime -= SimulationLodSystem.getTickDelta(entity, deltaTime);
+            }
+        }
+
+        if (batchRunning) {
+            if (worker.isBusy()) {
+                return;
+            }
+            batchRunning = false;
+            applyDecisions();
+        }
+
+        if (!level.stopInput) {
+            startBatch(deltaTime);
+        }
+    }
+
+    /**
+     * Hands each entity in the finished batch its path, in the order of the batch. An entity which was given a
+     * cooldown while the batch was running, such as by being talked to, ignores its decision.
+     */
+    private void applyDecisions() {
+        for (WanderRequest request : task.requests) {
+            PathComponent path = Mappers.path.get(request.entity);
+            WanderComponent wander = Mappers.wander.get(request.entity);
+            path.pending = false;
+            if (wander.waitTime <= 0) {
+                path.pathFound(request.path);
+                wander.waitTime = request.waitTime;
+            }
+        }
+        requestPool.freeAll(task.requests);
+        task.requests.clear();
+    }
+
+    /**
+     * Starts a batch on the worker thread for every idle entity whose wait is over and which is updated this step, if
+     * there are any.
+     *
+     * @param deltaTime the time elapsed since the last update
+     */
+    private void startBatch(float deltaTime) {
+        // Keep a request pooled for every entity up front, so a batch never allocates however many entities join it.
+        while (requestPool.getFree() < entities.size()) {
+            requestPool.free(new WanderRequest());
+        }
+
+        for (Entity entity : entities) {
+            PathComponent path = Mappers.path.get(entity);
+            WanderComponent wander = Mappers.wander.get(entity);
+            if (path.pending || path.path != null || wander.waitTime > 0
+                    || SimulationLodSystem.getTickDelta(entity, deltaTime) == 0) {
+                continue;
+            }
+
+            TileMovementComponent movement = Mappers.movement.get(entity);
+            WanderRequest request = requestPool.obtain();
+            request.entity = entity;
+            request.tileX = movement.tileX;
+            request.tileY = movement.tileY;
+            request.homeX = wander.homeX;
+            request.homeY = wander.homeY;
+            request.radius = wander.radius;
+            task.requests.add(request);
+            path.pending = true;
+        }
+
+        if (task.requests.size > 0) {
+            level.takeSnapshot(snapshot);
+            task.seed = random.nextLong();
+            batchRunning = true;
+            worker.submit(task);
+        }
+    }
+
+    /**
+     * Stops an entity wandering for a while, dropping its current path, such as when the player talks to it.
+     *
+     * @param entity   the entity
+     * @param cooldown how long the entity stays still, in seconds
+     */
+    public static void pause(Entity entity, float cooldown) {
+        if (Mappers.wander.has(entity)) {
+            Mappers.wander.get(entity).waitTime = cooldown;
+            Mappers.path.get(entity).path = null;
+        }
+    }
+
+    /**
+     * Waits for any running batch to finish and stops the worker thread.
+     */
+    public void dispose() {
+        worker.dispose();
+    }
+}
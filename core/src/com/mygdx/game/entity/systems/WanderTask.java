@@ -0,0 +1,106 @@
+package com.mygdx.game.entity.systems;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.mygdx.game.LevelSnapshot;
+import com.mygdx.game.pathfinding.PathfindingService;
+
+/**
+ * Decides where a batch of wandering entities walk to next, and finds their paths. Runs on a worker thread and only
+ * reads the level through a snapshot, so the decisions don't depend on what the render thread does meanwhile.
+ * <p>
+ * Decisions are made in the order of the requests using a random generator seeded for the batch, so the same batch
+ * always makes the same decisions. When two entities pick the same goal, the earlier request gets it and the later one
+ * stays put.
+ */
+class WanderTask implements AsyncTask<Void> {
+
+    /**
+     * How many random tiles an entity tries before giving up on walking this time.
+     */
+    public static final int GOAL_ATTEMPTS = 4;
+
+    /**
+     * The shortest and longest time an entity waits between walks, in seconds.
+     */
+    public static final float MIN_WAIT = 2f, MAX_WAIT = 6f;
+
+    /**
+     * The snapshot of the level the entities wander around.
+     */
+    private LevelSnapshot snapshot;
+
+    /**
+     * Finds the paths to the chosen tiles. Only used by the worker thread.
+     */
+    private PathfindingService pathfinding;
+
+    /**
+     * The requests in the current batch.
+     */
+    final Array<WanderRequest> requests = new Array<WanderRequest>();
+
+    /**
+     * The seed for the random generator for the current batch.
+     */
+    long seed;
+
+    /**
+     * The random generator used to pick goals and wait times.
+     */
+    private RandomXS128 random = new RandomXS128();
+
+    /**
+     * The indices of the goal tiles chosen so far in the current batch.
+     */
+    private IntSet claimedGoals = new IntSet();
+
+    /**
+     * Creates a new WanderTask reading from the specified snapshot.
+     *
+     * @param snapshot the snapshot of the level, which must already have been taken
+     */
+    WanderTask(LevelSnapshot snapshot) {
+        this.snapshot = snapshot;
+        pathfinding = new PathfindingService(snapshot);
+    }
+
+    /**
+     * Picks a goal for each request in the batch and finds the paths to them.
+     *
+     * @return null
+     */
+    @Override
+    public Void call() {
+        random.setSeed(seed);
+        claimedGoals.clear();
+
+        for (WanderRequest request : requests) {
+            request.waitTime = MIN_WAIT + random.nextFloat() * (MAX_WAIT - MIN_WAIT);
+            for (int i = 0; i < GOAL_ATTEMPTS; i++) {
+                int goalX = request.homeX + random.nextInt(request.radius * 2 + 1) - request.radius;
+                int goalY = request.homeY + random.nextInt(request.radius * 2 + 1) - request.radius;
+                if (isFreeGoal(goalX, goalY) && claimedGoals.add(goalY * snapshot.getMapWidth() + goalX)) {
+                    pathfinding.requestPath(request.tileX, request.tileY, goalX, goalY, request);
+                    break;
+                }
+            }
+        }
+
+        pathfinding.update();
+        return null;
+    }
+
+    /**
+     * Checks whether an entity may choose to walk to a tile.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the tile wasn't blocked or occupied when the snapshot was taken, and isn't a segment entrance
+     */
+    private boolean isFreeGoal(int x, int y) {
+        return !snapshot.isTileBlocked(x, y) && !snapshot.isTileOccupied(x, y) && !snapshot.isSegmentEntrance(x, y);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the systems that update and draw overworld entities.
+ */
+package com.mygdx.game.entity.systems;
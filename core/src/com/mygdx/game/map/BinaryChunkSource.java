@@ -0,0 +1,138 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+
+import java.nio.IntBuffer;
+
+/**
+ * A chunk source which reads tiles straight from the packed tile section of a binary map. Nothing is copied when the
+ * map is loaded, so if the file is memory mapped, tiles are only read from disk as chunks are loaded.
+ */
+public class BinaryChunkSource implements ChunkSource {
+
+    /**
+     * The width and height of the map in tiles.
+     */
+    private int width, height;
+
+    /**
+     * The name of each layer.
+     */
+    private String[] names;
+
+    /**
+     * Whether each layer is visible.
+     */
+    private boolean[] visible;
+
+    /**
+     * The properties of each layer.
+     */
+    private MapProperties[] properties;
+
+    /**
+     * The packed tiles of every layer, one layer after another. Only absolute reads are used, so it can be read from
+     * any thread.
+     */
+    private IntBuffer tiles;
+
+    /**
+     * The tile sets that packed tile ids refer to.
+     */
+    private TiledMapTileSets tileSets;
+
+    /**
+     * Creates a new BinaryChunkSource with the specified parameters.
+     *
+     * @param width      the width of the map in tiles
+     * @param height     the height of the map in tiles
+     * @param names      the name of each layer
+     * @param visible    whether each layer is visible
+     * @param properties the properties of each layer
+     * @param tiles      the packed tiles of every layer, one layer after another
+     * @param tileSets   the tile sets that packed tile ids refer to
+     */
+    public BinaryChunkSource(int width, int height, String[] names, boolean[] visible, MapProperties[] properties,
+                             IntBuffer tiles, TiledMapTileSets tileSets) {
+        this.width = width;
+        this.height = height;
+        this.names = names;
+        this.visible = visible;
+        this.properties = properties;
+        this.tiles = tiles;
+        this.tileSets = tileSets;
+    }
+
+    /**
+     * @return the width of the map in tiles
+     */
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of the map in tiles
+     */
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the number of tile layers, in render order
+     */
+    @Override
+    public int getLayerCount() {
+        return names.length;
+    }
+
+    /**
+     * @param layer the index of the layer
+     * @return the name of the layer
+     */
+    @Override
+    public String getLayerName(int layer) {
+        return names[layer];
+    }
+
+    /**
+     * @param layer the index of the layer
+     * @return whether the layer is visible
+     */
+    @Override
+    public boolean isLayerVisible(int layer) {
+        return visible[layer];
+    }
+
+    /**
+     * @param layer the index of the layer
+     * @return the properties of the layer
+     */
+    @Override
+    public MapProperties getLayerProperties(int layer) {
+        return properties[layer];
+    }
+
+    /**
+     * Gets a tile from a layer.
+     *
+     * @param layer the index of the layer
+     * @param x     the x coordinate of the tile
+     * @param y     the y coordinate of the tile
+     * @return the packed cell at the tile, or 0 if the cell is empty
+     */
+    @Override
+    public int getTile(int layer, int x, int y) {
+        return tiles.get((layer * height + y) * width + x);
+    }
+
+    /**
+     * @return the tile sets of the map
+     */
+    @Override
+    public TiledMapTileSets getTileSets() {
+        return tileSets;
+    }
+}
@@ -0,0 +1,75 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Bits;
+
+/**
+ * A map loaded from the binary map format, along with the grids that were compiled into it.
+ *
+ * @see BinaryMapLoader
+ */
+public class BinaryMap {
+
+    /**
+     * The map, holding the tile sets and object layers. Its tile layers are in the chunk source instead.
+     */
+    private TiledMap map;
+
+    /**
+     * The tile layers of the map.
+     */
+    private ChunkSource source;
+
+    /**
+     * One bit per tile, set if the tile is blocked by the collision layer or a door.
+     */
+    private Bits blockedTiles;
+
+    /**
+     * The terrain flags of each tile.
+     */
+    private byte[] terrain;
+
+    /**
+     * Creates a new BinaryMap with the specified parameters.
+     *
+     * @param map          the map holding the tile sets and object layers
+     * @param source       the tile layers of the map
+     * @param blockedTiles the blocked tile grid
+     * @param terrain      the terrain flag grid
+     */
+    BinaryMap(TiledMap map, ChunkSource source, Bits blockedTiles, byte[] terrain) {
+        this.map = map;
+        this.source = source;
+        this.blockedTiles = blockedTiles;
+        this.terrain = terrain;
+    }
+
+    /**
+     * @return the map holding the tile sets and object layers
+     */
+    public TiledMap getMap() {
+        return map;
+    }
+
+    /**
+     * @return the tile layers of the map
+     */
+    public ChunkSource getSource() {
+        return source;
+    }
+
+    /**
+     * @return one bit per tile, set if the tile is blocked, indexed by y * width + x
+     */
+    public Bits getBlockedTiles() {
+        return blockedTiles;
+    }
+
+    /**
+     * @return the terrain flags of each tile, indexed by y * width + x
+     */
+    public byte[] getTerrain() {
+        return terrain;
+    }
+}
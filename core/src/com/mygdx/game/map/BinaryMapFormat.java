@@ -0,0 +1,46 @@
+package com.mygdx.game.map;
+
+/**
+ * Describes the binary map format, which holds a TMX map compiled ahead of time along with its blocked tile and
+ * terrain grids, so that loading it needs no XML parsing or decompression. All values are big-endian. The file is laid
+ * out as:
+ * <pre>
+ * int magic, int version
+ * int width, int height, int tileWidth, int tileHeight        (in tiles and pixels)
+ * int tileSetCount, then for each tile set:
+ *     string name, int firstGid, string image (relative to the map file)
+ *     int tileWidth, int tileHeight, int margin, int spacing
+ *     int tileCount, then for each tile with properties: int id, properties
+ * int layerCount, then for each tile layer: string name, byte visible, properties
+ * int objectLayerCount, then for each object layer:
+ *     string name, byte visible, properties, int objectCount, then for each rectangle object:
+ *         string name, byte visible, float x, float y, float width, float height, properties
+ * int blockedWordCount, long[blockedWordCount] blocked tile bits
+ * byte[width * height] terrain flags
+ * padding to a multiple of four bytes
+ * int[layerCount][width * height] packed tiles
+ * </pre>
+ * Strings are an int byte length followed by UTF-8 bytes. Properties are an int count followed by a string key and a
+ * string value for each. Grids are indexed by y * width + x with y pointing up, as libGDX maps are. Tiles are packed
+ * as by {@link PackedTile}. The packed tiles come last so they can be read straight from a memory mapped file.
+ */
+public final class BinaryMapFormat {
+
+    /**
+     * The first four bytes of every binary map, "PDMP".
+     */
+    public static final int MAGIC = 0x50444d50;
+
+    /**
+     * The version of the format. Bumped whenever the layout changes, so stale files are rejected.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The extension of binary map files.
+     */
+    public static final String EXTENSION = "bin";
+
+    private BinaryMapFormat() {
+    }
+}
@@ -0,0 +1,218 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+
+/**
+ * Loads maps in the binary map format. Only the header, tile sets and object layers are decoded when loading; the
+ * grids are copied in bulk and the tiles are left in the buffer for the chunk source to read.
+ * <p>
+ * This loader reads the whole file into memory, which works on every backend. Platforms which can memory map files
+ * override {@link #open(FileHandle)}.
+ *
+ * @see BinaryMapFormat
+ */
+public class BinaryMapLoader {
+
+    /**
+     * Loads a binary map.
+     *
+     * @param file the binary map file
+     * @return the loaded map
+     */
+    public BinaryMap load(FileHandle file) {
+        ByteBuffer buffer = open(file);
+        if (buffer.getInt() != BinaryMapFormat.MAGIC) {
+            throw new GdxRuntimeException(file + " is not a binary map");
+        }
+        int version = buffer.getInt();
+        if (version != BinaryMapFormat.VERSION) {
+            throw new GdxRuntimeException(file + " has binary map version " + version + ", expected "
+                    + BinaryMapFormat.VERSION + ". Recompile the map.");
+        }
+
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        int tileWidth = buffer.getInt();
+        int tileHeight = buffer.getInt();
+
+        TiledMap map = new TiledMap();
+        MapProperties mapProperties = map.getProperties();
+        mapProperties.put("width", width);
+        mapProperties.put("height", height);
+        mapProperties.put("tilewidth", tileWidth);
+        mapProperties.put("tileheight", tileHeight);
+
+        loadTileSets(buffer, map, file);
+
+        int layerCount = buffer.getInt();
+        String[] names = new String[layerCount];
+        boolean[] visible = new boolean[layerCount];
+        MapProperties[] properties = new MapProperties[layerCount];
+        for (int i = 0; i < layerCount; i++) {
+            names[i] = readString(buffer);
+            visible[i] = buffer.get() != 0;
+            properties[i] = readProperties(buffer, new MapProperties());
+        }
+
+        loadObjectLayers(buffer, map);
+
+        Bits blockedTiles = new Bits(width * height);
+        int wordCount = buffer.getInt();
+        for (int word = 0; word < wordCount; word++) {
+            long bits = buffer.getLong();
+            while (bits != 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                blockedTiles.set(word * 64 + bit);
+                bits &= bits - 1;
+            }
+        }
+
+        byte[] terrain = new byte[width * height];
+        buffer.get(terrain);
+
+        // The packed tiles start on the next multiple of four bytes.
+        buffer.position((buffer.position() + 3) & ~3);
+        ByteBuffer tiles = buffer.slice();
+        tiles.limit(layerCount * width * height * 4);
+
+        ChunkSource source = new BinaryChunkSource(width, height, names, visible, properties, tiles.asIntBuffer(),
+                map.getTileSets());
+        return new BinaryMap(map, source, blockedTiles, terrain);
+    }
+
+    /**
+     * Opens a binary map file for reading.
+     *
+     * @param file the file
+     * @return a buffer holding the contents of the file, positioned at the start
+     */
+    protected ByteBuffer open(FileHandle file) {
+        return ByteBuffer.wrap(file.readBytes());
+    }
+
+    /**
+     * Reads the tile sets, loading each tile set image once and cutting it into tiles.
+     *
+     * @param buffer the buffer to read from
+     * @param map    the map to add the tile sets to
+     * @param file   the binary map file, which tile set images are relative to
+     */
+    private void loadTileSets(ByteBuffer buffer, TiledMap map, FileHandle file) {
+        ObjectMap<String, Texture> textures = new ObjectMap<String, Texture>();
+
+        int tileSetCount = buffer.getInt();
+        for (int i = 0; i < tileSetCount; i++) {
+            TiledMapTileSet tileSet = new TiledMapTileSet();
+            tileSet.setName(readString(buffer));
+            int firstGid = buffer.getInt();
+            String image = readString(buffer);
+            int tileWidth = buffer.getInt();
+            int tileHeight = buffer.getInt();
+            int margin = buffer.getInt();
+            int spacing = buffer.getInt();
+            tileSet.getProperties().put("firstgid", firstGid);
+
+            Texture texture = textures.get(image);
+            if (texture == null) {
+                texture = new Texture(file.parent().child(image));
+                texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+                textures.put(image, texture);
+            }
+
+            // Cut the image into tiles in the same order as the TMX loader.
+            int id = firstGid;
+            for (int y = margin; y <= texture.getHeight() - tileHeight; y += tileHeight + spacing) {
+                for (int x = margin; x <= texture.getWidth() - tileWidth; x += tileWidth + spacing) {
+                    TiledMapTile tile = new StaticTiledMapTile(new TextureRegion(texture, x, y, tileWidth, tileHeight));
+                    tile.setId(id);
+                    tileSet.putTile(id++, tile);
+                }
+            }
+
+            int tileCount = buffer.getInt();
+            for (int j = 0; j < tileCount; j++) {
+                TiledMapTile tile = tileSet.getTile(buffer.getInt());
+                readProperties(buffer, tile != null ? tile.getProperties() : new MapProperties());
+            }
+            map.getTileSets().addTileSet(tileSet);
+        }
+
+        map.setOwnedResources(textures.values().toArray());
+    }
+
+    /**
+     * Reads the object layers.
+     *
+     * @param buffer the buffer to read from
+     * @param map    the map to add the object layers to
+     */
+    private void loadObjectLayers(ByteBuffer buffer, TiledMap map) {
+        int layerCount = buffer.getInt();
+        for (int i = 0; i < layerCount; i++) {
+            MapLayer layer = new MapLayer();
+            layer.setName(readString(buffer));
+            layer.setVisible(buffer.get() != 0);
+            readProperties(buffer, layer.getProperties());
+
+            int objectCount = buffer.getInt();
+            for (int j = 0; j < objectCount; j++) {
+                String name = readString(buffer);
+                boolean visible = buffer.get() != 0;
+                RectangleMapObject object = new RectangleMapObject(buffer.getFloat(), buffer.getFloat(),
+                        buffer.getFloat(), buffer.getFloat());
+                object.setName(name);
+                object.setVisible(visible);
+                readProperties(buffer, object.getProperties());
+                layer.getObjects().add(object);
+            }
+            map.getLayers().add(layer);
+        }
+    }
+
+    /**
+     * Reads a set of properties.
+     *
+     * @param buffer     the buffer to read from
+     * @param properties the properties to add to
+     * @return the properties
+     */
+    private static MapProperties readProperties(ByteBuffer buffer, MapProperties properties) {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            String key = readString(buffer);
+            properties.put(key, readString(buffer));
+        }
+        return properties;
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @param buffer the buffer to read from
+     * @return the string
+     */
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        try {
+            return new String(bytes, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,555 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Pool;
+
+import static com.mygdx.game.Level.TILE_SIZE;
+
+/**
+ * Renders the chunks of a chunked map that are in view. The static layers below the first dynamic layer are baked
+ * into a sprite cache per chunk, so they are uploaded once rather than every frame. Door layers, overlay layers and
+ * layers with the "dynamic" property are drawn through the batch each frame. Layers with the "overlay" property are
+ * drawn over characters.
+ * <p>
+ * Chunks are baked a ring ahead of the view, a few per frame, so walking onto a new chunk rarely has to bake it on the
+ * spot. The sprite caches come from a pool sized for the largest chunk and are reused once their chunk leaves the ring,
+ * so the caches, and the shader each compiles, are only created when the baked area grows.
+ * <p>
+ * The layers drawn through the batch are kept in a render plan of layer indices, which is only rebuilt when the map
+ * removes a layer.
+ */
+public class ChunkRenderer implements Disposable {
+
+    /**
+     * The most sprites a sprite cache can hold when using indices.
+     */
+    private static final int MAX_INDEXED_SPRITES = 5460;
+
+    /**
+     * How many chunks beyond the view are baked ahead of time.
+     */
+    public static final int BAKE_RADIUS = 1;
+
+    /**
+     * The most chunks outside the view baked each frame. Chunks in view are always baked before they are drawn.
+     */
+    public static final int BAKES_PER_FRAME = 2;
+
+    /**
+     * The layer property marking a layer as drawn over characters.
+     */
+    public static final String OVERLAY_PROPERTY = "overlay";
+
+    /**
+     * Whether static layers are baked into sprite caches. If false, every layer is drawn through the batch.
+     */
+    public boolean cacheStaticLayers = true;
+
+    /**
+     * The chunked map to render.
+     */
+    private ChunkedMap chunks;
+
+    /**
+     * The batch dynamic layers are drawn on.
+     */
+    private Batch batch;
+
+    /**
+     * Draws the dynamic layers of each chunk.
+     */
+    private OrthogonalTiledMapRenderer mapRenderer;
+
+    /**
+     * The number of layers at the bottom of the map that are baked. Layers from this index up are dynamic.
+     */
+    private int staticLayerCount;
+
+    /**
+     * The active layers drawn through the batch below characters, in drawing order.
+     */
+    private int[] belowLayers;
+
+    /**
+     * The active layers drawn through the batch over characters, in drawing order.
+     */
+    private int[] overlayLayers;
+
+    /**
+     * Whether the render plan needs rebuilding before the next frame.
+     */
+    private boolean planDirty = true;
+
+    /**
+     * The layer version of the map when the render plan was built.
+     */
+    private int planVersion;
+
+    /**
+     * Whether static layers were baked when the render plan was built.
+     */
+    private boolean planCachedStatic;
+
+    /**
+     * The camera's combined projection and view matrix.
+     */
+    private Matrix4 projection = new Matrix4();
+
+    /**
+     * The transform used to move each chunk into place when drawing through the batch.
+     */
+    private Matrix4 chunkTransform = new Matrix4();
+
+    /**
+     * The area in view, in pixels.
+     */
+    private float viewX, viewY, viewWidth, viewHeight;
+
+    /**
+     * The range of chunks in view.
+     */
+    private int startX, startY, endX, endY;
+
+    /**
+     * The vertices of the tile currently being baked.
+     */
+    private float[] vertices = new float[20];
+
+    /**
+     * The most sprites a chunk can bake, which every pooled sprite cache has room for.
+     */
+    private int cacheSize;
+
+    /**
+     * Every sprite cache created, so they can be disposed with this ChunkRenderer.
+     */
+    private Array<SpriteCache> caches = new Array<SpriteCache>();
+
+    /**
+     * Pools the sprite caches, which are reused between chunks.
+     */
+    private Pool<SpriteCache> cachePool = new Pool<SpriteCache>() {
+        @Override
+        protected SpriteCache newObject() {
+            SpriteCache cache = new SpriteCache(cacheSize, cacheSize <= MAX_INDEXED_SPRITES);
+            caches.add(cache);
+            return cache;
+        }
+    };
+
+    /**
+     * The chunks which have been baked, whose sprite caches go back to the pool once they leave the baked area.
+     */
+    private Array<MapChunk> bakedChunks = new Array<MapChunk>();
+
+    /**
+     * Creates a new ChunkRenderer with the specified parameters.
+     *
+     * @param chunks the chunked map to render
+     * @param map    the map the chunks were loaded from
+     * @param batch  the batch to draw dynamic layers on
+     */
+    public ChunkRenderer(ChunkedMap chunks, TiledMap map, Batch batch) {
+        this.chunks = chunks;
+        this.batch = batch;
+        mapRenderer = new OrthogonalTiledMapRenderer(map, batch);
+
+        ChunkSource source = chunks.getSource();
+        while (staticLayerCount < source.getLayerCount() && !isDynamic(staticLayerCount)) {
+            staticLayerCount++;
+        }
+        cacheSize = ChunkedMap.CHUNK_SIZE * ChunkedMap.CHUNK_SIZE * staticLayerCount;
+    }
+
+    /**
+     * Checks whether a layer changes while the game runs, and so can't be baked.
+     *
+     * @param layer the index of the layer
+     * @return true if the layer is dynamic
+     */
+    private boolean isDynamic(int layer) {
+        ChunkSource source = chunks.getSource();
+        return isOverlay(layer) || source.getLayerName(layer).startsWith("door")
+                || source.getLayerProperties(layer).containsKey("dynamic");
+    }
+
+    /**
+     * Checks whether a layer is drawn over characters.
+     *
+     * @param layer the index of the layer
+     * @return true if the layer has the overlay property
+     */
+    private boolean isOverlay(int layer) {
+        return chunks.getSource().getLayerProperties(layer).containsKey(OVERLAY_PROPERTY);
+    }
+
+    /**
+     * Marks the render plan as out of date, so it is rebuilt before the next frame.
+     */
+    public void invalidatePlan() {
+        planDirty = true;
+    }
+
+    /**
+     * Rebuilds the render plan if it is out of date.
+     */
+    private void updatePlan() {
+        if (!planDirty && planVersion == chunks.getLayerVersion() && planCachedStatic == cacheStaticLayers) {
+            return;
+        }
+
+        int firstLayer = cacheStaticLayers ? staticLayerCount : 0;
+        int layerCount = chunks.getSource().getLayerCount();
+        int belowCount = 0, overlayCount = 0;
+        for (int layer = firstLayer; layer < layerCount; layer++) {
+            if (chunks.isLayerActive(layer)) {
+                if (isOverlay(layer)) {
+                    overlayCount++;
+                } else {
+                    belowCount++;
+                }
+            }
+        }
+
+        belowLayers = new int[belowCount];
+        overlayLayers = new int[overlayCount];
+        belowCount = overlayCount = 0;
+        for (int layer = firstLayer; layer < layerCount; layer++) {
+            if (chunks.isLayerActive(layer)) {
+                if (isOverlay(layer)) {
+                    overlayLayers[overlayCount++] = layer;
+                } else {
+                    belowLayers[belowCount++] = layer;
+                }
+            }
+        }
+
+        planDirty = false;
+        planVersion = chunks.getLayerVersion();
+        planCachedStatic = cacheStaticLayers;
+    }
+
+    /**
+     * Sets the area to render to what the specified camera can see.
+     *
+     * @param camera the camera
+     */
+    public void setView(OrthographicCamera camera) {
+        projection.set(camera.combined);
+
+        viewWidth = camera.viewportWidth * camera.zoom;
+        viewHeight = camera.viewportHeight * camera.zoom;
+        viewX = camera.position.x - viewWidth / 2;
+        viewY = camera.position.y - viewHeight / 2;
+
+        int chunkPixels = ChunkedMap.CHUNK_SIZE * TILE_SIZE;
+        startX = Math.max(0, (int) Math.floor(viewX / chunkPixels));
+        startY = Math.max(0, (int) Math.floor(viewY / chunkPixels));
+        endX = Math.min(chunks.getChunkCountX() - 1, (int) Math.floor((viewX + viewWidth) / chunkPixels));
+        endY = Math.min(chunks.getChunkCountY() - 1, (int) Math.floor((viewY + viewHeight) / chunkPixels));
+    }
+
+    /**
+     * Draws the baked static layers of each chunk in view, baking any chunks in view that haven't been yet, and then
+     * bakes a few of the chunks around the view ahead of time. Must be called outside of batch.begin() and batch.end().
+     */
+    public void renderStatic() {
+        if (!cacheStaticLayers || staticLayerCount == 0) {
+            return;
+        }
+
+        releaseCaches();
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        for (int chunkY = startY; chunkY <= endY; chunkY++) {
+            for (int chunkX = startX; chunkX <= endX; chunkX++) {
+                MapChunk chunk = chunks.getChunk(chunkX, chunkY);
+                if (!chunk.isBaked()) {
+                    bake(chunk);
+                }
+
+                SpriteCache cache = chunk.getStaticCache();
+                if (cache != null) {
+                    cache.setProjectionMatrix(projection);
+                    cache.begin();
+                    cache.draw(chunk.getStaticCacheId());
+                    cache.end();
+                }
+            }
+        }
+
+        bakeAhead();
+    }
+
+    /**
+     * Returns the sprite caches of baked chunks that have been evicted or have left the baked area to the pool.
+     */
+    private void releaseCaches() {
+        for (int i = bakedChunks.size - 1; i >= 0; i--) {
+            MapChunk chunk = bakedChunks.get(i);
+            int chunkX = chunk.getChunkX(), chunkY = chunk.getChunkY();
+            if (chunk.isEvicted() || chunkX < startX - BAKE_RADIUS || chunkX > endX + BAKE_RADIUS
+                    || chunkY < startY - BAKE_RADIUS || chunkY > endY + BAKE_RADIUS) {
+                if (chunk.getStaticCache() != null) {
+                    cachePool.free(chunk.getStaticCache());
+                }
+                chunk.clearStaticCache();
+                bakedChunks.removeIndex(i);
+            }
+        }
+    }
+
+    /**
+     * Bakes up to {@link #BAKES_PER_FRAME} of the loaded chunks around the view that haven't been baked yet. Chunks
+     * that haven't finished loading are left for a later frame rather than loaded on the spot.
+     */
+    private void bakeAhead() {
+        int bakes = 0;
+        int bakeStartX = startX - BAKE_RADIUS, bakeEndX = endX + BAKE_RADIUS;
+        int bakeStartY = startY - BAKE_RADIUS, bakeEndY = endY + BAKE_RADIUS;
+        for (int chunkY = bakeStartY; chunkY <= bakeEndY && bakes < BAKES_PER_FRAME; chunkY++) {
+            for (int chunkX = bakeStartX; chunkX <= bakeEndX && bakes < BAKES_PER_FRAME; chunkX++) {
+                MapChunk chunk = chunks.getLoadedChunk(chunkX, chunkY);
+                if (chunk != null && !chunk.isBaked()) {
+                    bake(chunk);
+                    bakes++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the layers of each chunk in view that aren't baked. Must be called between batch.begin() and batch.end().
+     *
+     * @param overlay true to draw only the layers drawn over characters, false to draw only the layers below them
+     */
+    public void renderLayers(boolean overlay) {
+        updatePlan();
+        int[] layers = overlay ? overlayLayers : belowLayers;
+        if (layers.length == 0) {
+            return;
+        }
+
+        int chunkPixels = ChunkedMap.CHUNK_SIZE * TILE_SIZE;
+
+        for (int chunkY = startY; chunkY <= endY; chunkY++) {
+            for (int chunkX = startX; chunkX <= endX; chunkX++) {
+                MapChunk chunk = chunks.getChunk(chunkX, chunkY);
+                boolean moved = false;
+
+                for (int i = 0; i < layers.length; i++) {
+                    TiledMapTileLayer layer = chunk.getLayer(layers[i]);
+                    if (layer == null) {
+                        continue;
+                    }
+
+                    // The map renderer draws layers from the origin, so move the chunk into place and the view to match.
+                    if (!moved) {
+                        float offsetX = chunkX * chunkPixels, offsetY = chunkY * chunkPixels;
+                        batch.setTransformMatrix(chunkTransform.setToTranslation(offsetX, offsetY, 0));
+                        mapRenderer.getViewBounds().set(viewX - offsetX, viewY - offsetY, viewWidth, viewHeight);
+                        moved = true;
+                    }
+                    mapRenderer.renderTileLayer(layer);
+                }
+            }
+        }
+
+        batch.setTransformMatrix(chunkTransform.idt());
+    }
+
+    /**
+     * Bakes the static layers of a chunk into a sprite cache from the pool.
+     *
+     * @param chunk the chunk
+     */
+    private void bake(MapChunk chunk) {
+        bakedChunks.add(chunk);
+
+        int size = 0;
+        for (int layer = 0; layer < staticLayerCount; layer++) {
+            size += chunks.isLayerActive(layer) ? countCells(chunk.getLayer(layer)) : 0;
+        }
+
+        if (size == 0) {
+            chunk.setStaticCache(null, 0);
+            return;
+        }
+
+        SpriteCache cache = cachePool.obtain();
+        cache.clear();
+        cache.beginCache();
+
+        float baseX = chunk.getChunkX() * ChunkedMap.CHUNK_SIZE * TILE_SIZE;
+        float baseY = chunk.getChunkY() * ChunkedMap.CHUNK_SIZE * TILE_SIZE;
+        for (int layer = 0; layer < staticLayerCount; layer++) {
+            TiledMapTileLayer tileLayer = chunk.getLayer(layer);
+            if (!chunks.isLayerActive(layer) || tileLayer == null) {
+                continue;
+            }
+
+            float color = Color.toFloatBits(1, 1, 1, tileLayer.getOpacity());
+            for (int y = 0; y < tileLayer.getHeight(); y++) {
+                for (int x = 0; x < tileLayer.getWidth(); x++) {
+                    Cell cell = tileLayer.getCell(x, y);
+                    if (cell != null && cell.getTile() != null) {
+                        setVertices(cell, baseX + x * TILE_SIZE, baseY + y * TILE_SIZE, color);
+                        cache.add(cell.getTile().getTextureRegion().getTexture(), vertices, 0, vertices.length);
+                    }
+                }
+            }
+        }
+
+        chunk.setStaticCache(cache, cache.endCache());
+    }
+
+    /**
+     * Counts the non-empty cells of a layer.
+     *
+     * @param layer the layer, may be null
+     * @return the number of cells with a tile
+     */
+    private static int countCells(TiledMapTileLayer layer) {
+        int count = 0;
+        if (layer != null) {
+            for (int y = 0; y < layer.getHeight(); y++) {
+                for (int x = 0; x < layer.getWidth(); x++) {
+                    Cell cell = layer.getCell(x, y);
+                    if (cell != null && cell.getTile() != null) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Fills the vertices array with the quad for a cell, flipping and rotating its texture coordinates in the same way
+     * as the map renderer.
+     *
+     * @param cell  the cell
+     * @param x     the x position of the cell in pixels
+     * @param y     the y position of the cell in pixels
+     * @param color the packed vertex colour
+     */
+    void setVertices(Cell cell, float x, float y, float color) {
+        TiledMapTile tile = cell.getTile();
+        TextureRegion region = tile.getTextureRegion();
+
+        float x1 = x + tile.getOffsetX(), y1 = y + tile.getOffsetY();
+        float x2 = x1 + region.getRegionWidth(), y2 = y1 + region.getRegionHeight();
+        float u1 = region.getU(), v1 = region.getV2(), u2 = region.getU2(), v2 = region.getV();
+
+        vertices[Batch.X1] = x1;
+        vertices[Batch.Y1] = y1;
+        vertices[Batch.C1] = color;
+        vertices[Batch.U1] = u1;
+        vertices[Batch.V1] = v1;
+
+        vertices[Batch.X2] = x1;
+        vertices[Batch.Y2] = y2;
+        vertices[Batch.C2] = color;
+        vertices[Batch.U2] = u1;
+        vertices[Batch.V2] = v2;
+
+        vertices[Batch.X3] = x2;
+        vertices[Batch.Y3] = y2;
+        vertices[Batch.C3] = color;
+        vertices[Batch.U3] = u2;
+        vertices[Batch.V3] = v2;
+
+        vertices[Batch.X4] = x2;
+        vertices[Batch.Y4] = y1;
+        vertices[Batch.C4] = color;
+        vertices[Batch.U4] = u2;
+        vertices[Batch.V4] = v1;
+
+        if (cell.getFlipHorizontally()) {
+            swap(Batch.U1, Batch.U3);
+            swap(Batch.U2, Batch.U4);
+        }
+        if (cell.getFlipVertically()) {
+            swap(Batch.V1, Batch.V3);
+            swap(Batch.V2, Batch.V4);
+        }
+
+        switch (cell.getRotation()) {
+            case Cell.ROTATE_90:
+                rotate(Batch.V1, Batch.V2, Batch.V3, Batch.V4);
+                rotate(Batch.U1, Batch.U2, Batch.U3, Batch.U4);
+                break;
+            case Cell.ROTATE_180:
+                swap(Batch.U1, Batch.U3);
+                swap(Batch.U2, Batch.U4);
+                swap(Batch.V1, Batch.V3);
+                swap(Batch.V2, Batch.V4);
+                break;
+            case Cell.ROTATE_270:
+                rotate(Batch.V1, Batch.V4, Batch.V3, Batch.V2);
+                rotate(Batch.U1, Batch.U4, Batch.U3, Batch.U2);
+                break;
+        }
+    }
+
+    /**
+     * Swaps two values in the vertices array.
+     *
+     * @param a the index of the first value
+     * @param b the index of the second value
+     */
+    private void swap(int a, int b) {
+        float temp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = temp;
+    }
+
+    /**
+     * Moves each of four values in the vertices array into the previous index, with the first moving to the last.
+     *
+     * @param a the index of the first value
+     * @param b the index of the second value
+     * @param c the index of the third value
+     * @param d the index of the fourth value
+     */
+    private void rotate(int a, int b, int c, int d) {
+        float temp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = vertices[c];
+        vertices[c] = vertices[d];
+        vertices[d] = temp;
+    }
+
+    /**
+     * Cleans up resources used by this ChunkRenderer, including every sprite cache the chunks were baked into.
+     */
+    @Override
+    public void dispose() {
+        mapRenderer.dispose();
+        for (MapChunk chunk : bakedChunks) {
+            chunk.clearStaticCache();
+        }
+        bakedChunks.clear();
+        for (SpriteCache cache : caches) {
+            cache.dispose();
+        }
+        caches.clear();
+        cachePool.clear();
+    }
+}
@@ -0,0 +1,60 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+
+/**
+ * Provides the tile layers of a map for loading into chunks. Implementations must allow tiles to be read from a
+ * background thread.
+ */
+public interface ChunkSource {
+
+    /**
+     * @return the width of the map in tiles
+     */
+    int getWidth();
+
+    /**
+     * @return the height of the map in tiles
+     */
+    int getHeight();
+
+    /**
+     * @return the number of tile layers, in render order
+     */
+    int getLayerCount();
+
+    /**
+     * @param layer the index of the layer
+     * @return the name of the layer
+     */
+    String getLayerName(int layer);
+
+    /**
+     * @param layer the index of the layer
+     * @return whether the layer is visible
+     */
+    boolean isLayerVisible(int layer);
+
+    /**
+     * @param layer the index of the layer
+     * @return the properties of the layer
+     */
+    MapProperties getLayerProperties(int layer);
+
+    /**
+     * Gets a tile from a layer.
+     *
+     * @param layer the index of the layer
+     * @param x     the x coordinate of the tile
+     * @param y     the y coordinate of the tile
+     * @return the packed cell at the tile, or 0 if the cell is empty
+     * @see PackedTile
+     */
+    int getTile(int layer, int x, int y);
+
+    /**
+     * @return the tile sets that packed tile ids refer to
+     */
+    TiledMapTileSets getTileSets();
+}
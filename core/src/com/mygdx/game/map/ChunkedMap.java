@@ -0,0 +1,316 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * Streams the tile layers of a map in chunks. Chunks near the player are loaded on a background thread and the least
+ * recently used chunks are evicted once too many are loaded.
+ */
+public class ChunkedMap implements Disposable {
+
+    /**
+     * The width and height of a chunk in tiles.
+     */
+    public static final int CHUNK_SIZE = 32;
+
+    /**
+     * How many chunks around the player's chunk are loaded ahead of time.
+     */
+    public static final int LOAD_RADIUS = 2;
+
+    /**
+     * The maximum number of chunks kept loaded before the least recently used ones are evicted. There is room for the
+     * chunks around the player and the chunks preloaded around a door exit at the same time.
+     */
+    public static final int MAX_LOADED_CHUNKS = 2 * (2 * LOAD_RADIUS + 3) * (2 * LOAD_RADIUS + 3);
+
+    /**
+     * The source the chunks are read from.
+     */
+    private ChunkSource source;
+
+    /**
+     * The width and height of the map in chunks.
+     */
+    private int chunkCountX, chunkCountY;
+
+    /**
+     * Whether each layer has been removed from the map.
+     */
+    private boolean[] removedLayers;
+
+    /**
+     * Counts changes to which layers are active, so renderers can tell when their render plan is out of date.
+     */
+    private int layerVersion;
+
+    /**
+     * The loaded chunks, keyed by chunkY * chunkCountX + chunkX.
+     */
+    private IntMap<MapChunk> loadedChunks = new IntMap<MapChunk>();
+
+    /**
+     * The chunks being loaded on the background thread, keyed the same as the loaded chunks.
+     */
+    private IntMap<AsyncResult<MapChunk>> pendingChunks = new IntMap<AsyncResult<MapChunk>>();
+
+    /**
+     * The background thread chunks are loaded on.
+     */
+    private AsyncExecutor executor = new AsyncExecutor(1);
+
+    /**
+     * Counts calls to update, used to find the least recently used chunks.
+     */
+    private long frame;
+
+    /**
+     * Creates a new ChunkedMap reading from the specified source.
+     *
+     * @param source the chunk source
+     */
+    public ChunkedMap(ChunkSource source) {
+        this.source = source;
+        chunkCountX = (source.getWidth() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunkCountY = (source.getHeight() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        removedLayers = new boolean[source.getLayerCount()];
+    }
+
+    /**
+     * Requests the chunks around the specified tile, stores any chunks that have finished loading and evicts chunks
+     * if too many are loaded.
+     *
+     * @param tileX the x coordinate of the tile, usually the player's
+     * @param tileY the y coordinate of the tile, usually the player's
+     */
+    public void update(int tileX, int tileY) {
+        frame++;
+        preload(tileX, tileY);
+
+        IntMap.Entries<AsyncResult<MapChunk>> pending = pendingChunks.entries();
+        while (pending.hasNext()) {
+            AsyncResult<MapChunk> result = pending.next().value;
+            if (result.isDone()) {
+                storeChunk(result.get());
+                pending.remove();
+            }
+        }
+
+        while (loadedChunks.size > MAX_LOADED_CHUNKS) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Requests the chunks around the specified tile without waiting for them, so they are ready before they are drawn.
+     * Chunks that finish loading are stored on the next update.
+     *
+     * @param tileX the x coordinate of the tile
+     * @param tileY the y coordinate of the tile
+     */
+    public void preload(int tileX, int tileY) {
+        int centreX = tileX / CHUNK_SIZE, centreY = tileY / CHUNK_SIZE;
+        for (int chunkY = centreY - LOAD_RADIUS; chunkY <= centreY + LOAD_RADIUS; chunkY++) {
+            for (int chunkX = centreX - LOAD_RADIUS; chunkX <= centreX + LOAD_RADIUS; chunkX++) {
+                requestChunk(chunkX, chunkY);
+            }
+        }
+    }
+
+    /**
+     * Checks whether every chunk around the specified tile has been loaded, so moving there won't load any chunks
+     * immediately.
+     *
+     * @param tileX the x coordinate of the tile
+     * @param tileY the y coordinate of the tile
+     * @return true if the chunks around the tile are loaded
+     */
+    public boolean isAreaLoaded(int tileX, int tileY) {
+        int centreX = tileX / CHUNK_SIZE, centreY = tileY / CHUNK_SIZE;
+        for (int chunkY = centreY - LOAD_RADIUS; chunkY <= centreY + LOAD_RADIUS; chunkY++) {
+            for (int chunkX = centreX - LOAD_RADIUS; chunkX <= centreX + LOAD_RADIUS; chunkX++) {
+                if (isInBounds(chunkX, chunkY) && !loadedChunks.containsKey(chunkY * chunkCountX + chunkX)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks a chunk as in use, starting to load it in the background if it isn't loaded.
+     *
+     * @param chunkX the x position of the chunk in chunks
+     * @param chunkY the y position of the chunk in chunks
+     */
+    private void requestChunk(final int chunkX, final int chunkY) {
+        if (!isInBounds(chunkX, chunkY)) {
+            return;
+        }
+
+        int key = chunkY * chunkCountX + chunkX;
+        MapChunk chunk = loadedChunks.get(key);
+        if (chunk != null) {
+            chunk.lastUsed = frame;
+        } else if (!pendingChunks.containsKey(key)) {
+            pendingChunks.put(key, executor.submit(new AsyncTask<MapChunk>() {
+                @Override
+                public MapChunk call() {
+                    return new MapChunk(source, chunkX, chunkY);
+                }
+            }));
+        }
+    }
+
+    /**
+     * Gets a chunk, loading it immediately if it hasn't been loaded in the background yet.
+     *
+     * @param chunkX the x position of the chunk in chunks
+     * @param chunkY the y position of the chunk in chunks
+     * @return the chunk, or null if it is outside the map
+     */
+    public MapChunk getChunk(int chunkX, int chunkY) {
+        if (!isInBounds(chunkX, chunkY)) {
+            return null;
+        }
+
+        int key = chunkY * chunkCountX + chunkX;
+        MapChunk chunk = loadedChunks.get(key);
+        if (chunk == null) {
+            AsyncResult<MapChunk> pending = pendingChunks.remove(key);
+            chunk = pending != null ? pending.get() : new MapChunk(source, chunkX, chunkY);
+            storeChunk(chunk);
+        }
+        chunk.lastUsed = frame;
+        return chunk;
+    }
+
+    /**
+     * Gets a chunk only if it has already been loaded, without loading it.
+     *
+     * @param chunkX the x position of the chunk in chunks
+     * @param chunkY the y position of the chunk in chunks
+     * @return the chunk, or null if it is outside the map or isn't loaded yet
+     */
+    public MapChunk getLoadedChunk(int chunkX, int chunkY) {
+        if (!isInBounds(chunkX, chunkY)) {
+            return null;
+        }
+
+        MapChunk chunk = loadedChunks.get(chunkY * chunkCountX + chunkX);
+        if (chunk != null) {
+            chunk.lastUsed = frame;
+        }
+        return chunk;
+    }
+
+    /**
+     * Stores a loaded chunk.
+     *
+     * @param chunk the chunk
+     */
+    private void storeChunk(MapChunk chunk) {
+        chunk.lastUsed = frame;
+        loadedChunks.put(chunk.getChunkY() * chunkCountX + chunk.getChunkX(), chunk);
+    }
+
+    /**
+     * Evicts the least recently used chunk.
+     */
+    private void evictLeastRecentlyUsed() {
+        int oldestKey = 0;
+        long oldest = Long.MAX_VALUE;
+        for (IntMap.Entry<MapChunk> entry : loadedChunks.entries()) {
+            if (entry.value.lastUsed < oldest) {
+                oldest = entry.value.lastUsed;
+                oldestKey = entry.key;
+            }
+        }
+        loadedChunks.remove(oldestKey).dispose();
+    }
+
+    /**
+     * Checks whether a chunk lies within the map.
+     *
+     * @param chunkX the x position of the chunk in chunks
+     * @param chunkY the y position of the chunk in chunks
+     * @return true if the chunk is on the map
+     */
+    public boolean isInBounds(int chunkX, int chunkY) {
+        return chunkX >= 0 && chunkY >= 0 && chunkX < chunkCountX && chunkY < chunkCountY;
+    }
+
+    /**
+     * Gets the index of the layer with the specified name.
+     *
+     * @param name the name of the layer
+     * @return the index of the layer, or -1 if there is no such layer
+     */
+    public int getLayerIndex(String name) {
+        return MapGrids.findLayer(source, name);
+    }
+
+    /**
+     * Removes a layer from the map. The tiles of the layer stay in the source but are no longer drawn.
+     *
+     * @param layer the index of the layer
+     */
+    public void removeLayer(int layer) {
+        removedLayers[layer] = true;
+        layerVersion++;
+    }
+
+    /**
+     * Checks whether a layer should be drawn.
+     *
+     * @param layer the index of the layer
+     * @return true if the layer is visible and hasn't been removed
+     */
+    public boolean isLayerActive(int layer) {
+        return !removedLayers[layer] && source.isLayerVisible(layer);
+    }
+
+    /**
+     * @return a number that changes whenever a layer is removed
+     */
+    public int getLayerVersion() {
+        return layerVersion;
+    }
+
+    /**
+     * @return the source the chunks are read from
+     */
+    public ChunkSource getSource() {
+        return source;
+    }
+
+    /**
+     * @return the width of the map in chunks
+     */
+    public int getChunkCountX() {
+        return chunkCountX;
+    }
+
+    /**
+     * @return the height of the map in chunks
+     */
+    public int getChunkCountY() {
+        return chunkCountY;
+    }
+
+    /**
+     * Stops the background thread used to load chunks and releases the loaded chunks.
+     */
+    @Override
+    public void dispose() {
+        executor.dispose();
+        for (MapChunk chunk : loadedChunks.values()) {
+            chunk.dispose();
+        }
+        loadedChunks.clear();
+    }
+}
@@ -0,0 +1,184 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Tracks which tiles of a map the player has explored as one bit per tile. Tiles are revealed in a circle around the
+ * player as they move. Each row records the version in which it last changed, so anything drawing the fog can update
+ * only the rows changed since it last looked.
+ */
+public class FogOfWar {
+
+    /**
+     * How far around the player tiles are revealed, in tiles.
+     */
+    public static final int REVEAL_RADIUS = 7;
+
+    /**
+     * The width and height of the map in tiles.
+     */
+    private int width, height;
+
+    /**
+     * The explored bits, one per tile indexed by y * width + x, packed 64 to a word.
+     */
+    private long[] explored;
+
+    /**
+     * The tile the fog was last revealed around, to skip revealing again while the player stands still.
+     */
+    private int lastX = -1, lastY = -1;
+
+    /**
+     * Counts reveals that explored new tiles.
+     */
+    private int version;
+
+    /**
+     * The version in which each row last changed.
+     */
+    private int[] rowVersions;
+
+    /**
+     * Creates a new FogOfWar over a map of the specified size, with every tile unexplored.
+     *
+     * @param width  the width of the map in tiles
+     * @param height the height of the map in tiles
+     */
+    public FogOfWar(int width, int height) {
+        this.width = width;
+        this.height = height;
+        explored = new long[(width * height + 63) >>> 6];
+        rowVersions = new int[height];
+    }
+
+    /**
+     * Reveals the tiles around the player's tile, if the player has moved since the last reveal.
+     *
+     * @param tileX the x coordinate of the player's tile
+     * @param tileY the y coordinate of the player's tile
+     */
+    public void update(int tileX, int tileY) {
+        if (tileX != lastX || tileY != lastY) {
+            lastX = tileX;
+            lastY = tileY;
+            reveal(tileX, tileY, REVEAL_RADIUS);
+        }
+    }
+
+    /**
+     * Reveals the tiles in a circle around a tile.
+     *
+     * @param tileX  the x coordinate of the centre tile
+     * @param tileY  the y coordinate of the centre tile
+     * @param radius the radius of the circle in tiles
+     */
+    public void reveal(int tileX, int tileY, int radius) {
+        int startY = Math.max(0, tileY - radius), endY = Math.min(height - 1, tileY + radius);
+        int nextVersion = version + 1;
+        for (int y = startY; y <= endY; y++) {
+            int dy = y - tileY;
+            int halfWidth = (int) Math.sqrt(radius * radius - dy * dy);
+            int startX = Math.max(0, tileX - halfWidth), endX = Math.min(width - 1, tileX + halfWidth);
+
+            boolean changed = false;
+            for (int x = startX; x <= endX; x++) {
+                int index = y * width + x;
+                long bit = 1L << (index & 63);
+                if ((explored[index >>> 6] & bit) == 0) {
+                    explored[index >>> 6] |= bit;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                rowVersions[y] = nextVersion;
+                version = nextVersion;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a tile has been explored.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the tile is on the map and has been explored
+     */
+    public boolean isExplored(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        int index = y * width + x;
+        return (explored[index >>> 6] & (1L << (index & 63))) != 0;
+    }
+
+    /**
+     * @return a number that changes whenever tiles are explored
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the version in which a row last changed.
+     *
+     * @param y the row
+     * @return the version of the row
+     */
+    public int getRowVersion(int y) {
+        return rowVersions[y];
+    }
+
+    /**
+     * @return the width of the map in tiles
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of the map in tiles
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Writes the explored tiles as the map size followed by the packed words, one bit per tile.
+     *
+     * @param output the output to write to
+     * @throws IOException if the output can't be written
+     */
+    public void write(DataOutput output) throws IOException {
+        output.writeInt(width);
+        output.writeInt(height);
+        for (long word : explored) {
+            output.writeLong(word);
+        }
+    }
+
+    /**
+     * Reads explored tiles written by {@link #write(DataOutput)}, replacing the current ones.
+     *
+     * @param input the input to read from
+     * @throws IOException if the input can't be read
+     */
+    public void read(DataInput input) throws IOException {
+        int savedWidth = input.readInt();
+        int savedHeight = input.readInt();
+        if (savedWidth != width || savedHeight != height) {
+            throw new GdxRuntimeException("Fog of war is " + savedWidth + "x" + savedHeight + " but the map is " + width + "x" + height);
+        }
+        for (int i = 0; i < explored.length; i++) {
+            explored[i] = input.readLong();
+        }
+        lastX = lastY = -1;
+        version++;
+        Arrays.fill(rowVersions, version);
+    }
+}
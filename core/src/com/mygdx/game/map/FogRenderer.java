@@ -0,0 +1,113 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.nio.ByteBuffer;
+
+import static com.mygdx.game.Level.TILE_SIZE;
+
+/**
+ * Renders a fog of war as a single quad stretched over the map. The fog is kept in an alpha texture with one texel per
+ * tile, and only the rows revealed since the last frame are written to the pixmap and uploaded to the texture.
+ */
+public class FogRenderer implements Disposable {
+
+    /**
+     * The alpha of the fog over unexplored tiles.
+     */
+    private static final int FOG_ALPHA = 255;
+
+    /**
+     * The fog of war to render.
+     */
+    private FogOfWar fog;
+
+    /**
+     * The fog as one alpha byte per tile, with row 0 holding the bottom row of tiles.
+     */
+    private Pixmap pixmap;
+
+    /**
+     * The texture the pixmap is uploaded to.
+     */
+    private Texture texture;
+
+    /**
+     * The version of the fog the texture was last updated to.
+     */
+    private int drawnVersion = -1;
+
+    /**
+     * Creates a new FogRenderer for the specified fog of war.
+     *
+     * @param fog the fog of war to render
+     */
+    public FogRenderer(FogOfWar fog) {
+        this.fog = fog;
+
+        pixmap = new Pixmap(fog.getWidth(), fog.getHeight(), Pixmap.Format.Alpha);
+        texture = new Texture(pixmap);
+        // Linear filtering softens the edge of the fog between tiles.
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+    }
+
+    /**
+     * Uploads the rows of fog that have changed, then draws the fog over the map.
+     *
+     * @param batch the batch to draw on, which must have been started
+     */
+    public void render(Batch batch) {
+        if (fog.getVersion() != drawnVersion) {
+            int startY = fog.getHeight(), endY = -1;
+            for (int y = 0; y < fog.getHeight(); y++) {
+                if (fog.getRowVersion(y) > drawnVersion) {
+                    startY = Math.min(startY, y);
+                    endY = y;
+                }
+            }
+            updateTexture(startY, endY);
+            drawnVersion = fog.getVersion();
+        }
+
+        // Pixmap rows run from the top of the texture, so the texture is flipped to put row 0 at the bottom.
+        batch.draw(texture, 0, 0, fog.getWidth() * TILE_SIZE, fog.getHeight() * TILE_SIZE,
+                0, 0, fog.getWidth(), fog.getHeight(), false, true);
+    }
+
+    /**
+     * Writes a range of rows to the pixmap and uploads only those rows to the texture.
+     *
+     * @param startY the first row
+     * @param endY   the last row
+     */
+    private void updateTexture(int startY, int endY) {
+        int width = fog.getWidth();
+        ByteBuffer pixels = pixmap.getPixels();
+        for (int y = startY; y <= endY; y++) {
+            for (int x = 0; x < width; x++) {
+                pixels.put(y * width + x, (byte) (fog.isExplored(x, y) ? 0 : FOG_ALPHA));
+            }
+        }
+
+        texture.bind();
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        pixels.position(startY * width);
+        Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, startY, width, endY - startY + 1,
+                pixmap.getGLFormat(), pixmap.getGLType(), pixels);
+        pixels.position(0);
+    }
+
+    /**
+     * Releases the fog texture and pixmap.
+     */
+    @Override
+    public void dispose() {
+        texture.dispose();
+        pixmap.dispose();
+    }
+}
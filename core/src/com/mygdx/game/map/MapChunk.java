@@ -0,0 +1,166 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Disposable;
+
+import static com.mygdx.game.Level.TILE_SIZE;
+
+/**
+ * A square section of the map with its own small tile layer for each layer of the map.
+ */
+public class MapChunk implements Disposable {
+
+    /**
+     * The position of this MapChunk in chunks.
+     */
+    private int chunkX, chunkY;
+
+    /**
+     * The tile layers of this MapChunk, indexed the same as the chunk source. Layers with no tiles in this MapChunk are
+     * null.
+     */
+    private TiledMapTileLayer[] layers;
+
+    /**
+     * The static layers of this MapChunk baked for rendering, or null if it hasn't been baked or has nothing to bake.
+     * The sprite cache belongs to the chunk renderer, which reuses it for other chunks once this one is out of range.
+     */
+    private SpriteCache staticCache;
+
+    /**
+     * The id of the baked static layers within the static cache.
+     */
+    private int staticCacheId;
+
+    /**
+     * Whether the static layers of this MapChunk have been baked.
+     */
+    private boolean baked;
+
+    /**
+     * Whether this MapChunk has been evicted from the chunked map.
+     */
+    private boolean evicted;
+
+    /**
+     * The frame this MapChunk was last used on, for evicting the least recently used chunks.
+     */
+    long lastUsed;
+
+    /**
+     * Creates a new MapChunk by reading its tiles from the specified source.
+     *
+     * @param source the chunk source
+     * @param chunkX the x position of the chunk in chunks
+     * @param chunkY the y position of the chunk in chunks
+     */
+    public MapChunk(ChunkSource source, int chunkX, int chunkY) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+
+        int size = ChunkedMap.CHUNK_SIZE;
+        int startX = chunkX * size, startY = chunkY * size;
+        int endX = Math.min(startX + size, source.getWidth()), endY = Math.min(startY + size, source.getHeight());
+
+        layers = new TiledMapTileLayer[source.getLayerCount()];
+        for (int i = 0; i < layers.length; i++) {
+            for (int y = startY; y < endY; y++) {
+                for (int x = startX; x < endX; x++) {
+                    int packed = source.getTile(i, x, y);
+                    if (packed == 0) {
+                        continue;
+                    }
+
+                    if (layers[i] == null) {
+                        layers[i] = new TiledMapTileLayer(size, size, TILE_SIZE, TILE_SIZE);
+                        layers[i].setName(source.getLayerName(i));
+                    }
+                    layers[i].setCell(x - startX, y - startY, PackedTile.unpack(packed, source.getTileSets()));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the x position of this MapChunk in chunks
+     */
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    /**
+     * @return the y position of this MapChunk in chunks
+     */
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    /**
+     * Gets one of the tile layers of this MapChunk.
+     *
+     * @param layer the index of the layer
+     * @return the tile layer, or null if the layer has no tiles in this MapChunk
+     */
+    public TiledMapTileLayer getLayer(int layer) {
+        return layers[layer];
+    }
+
+    /**
+     * @return whether the static layers of this MapChunk have been baked
+     */
+    public boolean isBaked() {
+        return baked;
+    }
+
+    /**
+     * @return the sprite cache holding the baked static layers, or null if there is nothing to draw
+     */
+    public SpriteCache getStaticCache() {
+        return staticCache;
+    }
+
+    /**
+     * @return the id of the baked static layers within the static cache
+     */
+    public int getStaticCacheId() {
+        return staticCacheId;
+    }
+
+    /**
+     * Sets the baked static layers of this MapChunk.
+     *
+     * @param staticCache   the sprite cache, or null if there is nothing to draw
+     * @param staticCacheId the id of the baked layers within the sprite cache
+     */
+    public void setStaticCache(SpriteCache staticCache, int staticCacheId) {
+        this.staticCache = staticCache;
+        this.staticCacheId = staticCacheId;
+        baked = true;
+    }
+
+    /**
+     * Forgets the baked static layers of this MapChunk, so they are baked again the next time they are needed.
+     */
+    public void clearStaticCache() {
+        staticCache = null;
+        staticCacheId = 0;
+        baked = false;
+    }
+
+    /**
+     * @return whether this MapChunk has been evicted from the chunked map
+     */
+    public boolean isEvicted() {
+        return evicted;
+    }
+
+    /**
+     * Marks this MapChunk as evicted. Its sprite cache isn't disposed here, as the chunk renderer takes it back once it
+     * sees the chunk has been evicted.
+     */
+    @Override
+    public void dispose() {
+        evicted = true;
+    }
+}
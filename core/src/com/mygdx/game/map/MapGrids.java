@@ -0,0 +1,165 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.mygdx.game.Terrain;
+
+/**
+ * Builds the per-tile grids the game reads while it runs from the tile layers of a map. Used both when loading a TMX
+ * map and when compiling one to the binary map format, so both give the same grids.
+ */
+public final class MapGrids {
+
+    /**
+     * The name of the layer whose tiles block movement.
+     */
+    public static final String COLLISION_LAYER = "Collision";
+
+    /**
+     * The start of the name of each door layer, followed by the door number.
+     */
+    public static final String DOOR_LAYER_PREFIX = "door";
+
+    private MapGrids() {
+    }
+
+    /**
+     * Gets the index of the layer with the specified name.
+     *
+     * @param source the source of the layers
+     * @param name   the name of the layer
+     * @return the index of the layer, or -1 if there is no such layer
+     */
+    public static int findLayer(ChunkSource source, String name) {
+        for (int i = 0; i < source.getLayerCount(); i++) {
+            if (source.getLayerName(i).equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of each door layer.
+     *
+     * @param source    the source of the layers
+     * @param doorCount the number of doors
+     * @return the index of each door layer indexed by door number, or -1 for missing doors
+     */
+    public static int[] findDoorLayers(ChunkSource source, int doorCount) {
+        int[] doorLayers = new int[doorCount + 1];
+        doorLayers[0] = -1;
+        for (int i = 1; i <= doorCount; i++) {
+            doorLayers[i] = findLayer(source, DOOR_LAYER_PREFIX + i);
+        }
+        return doorLayers;
+    }
+
+    /**
+     * Finds the tiles covered by each door layer, so removing a door only has to look at its own tiles.
+     *
+     * @param source     the source of the layers
+     * @param doorLayers the index of each door layer indexed by door number, with -1 for missing doors
+     * @return the tiles of each door as y * width + x, indexed by door number, or null for missing doors
+     */
+    public static IntArray[] findDoorTiles(ChunkSource source, int[] doorLayers) {
+        int width = source.getWidth();
+        IntArray[] doorTiles = new IntArray[doorLayers.length];
+        for (int door = 0; door < doorLayers.length; door++) {
+            if (doorLayers[door] == -1) {
+                continue;
+            }
+
+            doorTiles[door] = new IntArray();
+            for (int y = 0; y < source.getHeight(); y++) {
+                for (int x = 0; x < width; x++) {
+                    if (source.getTile(doorLayers[door], x, y) != 0) {
+                        doorTiles[door].add(y * width + x);
+                    }
+                }
+            }
+        }
+        return doorTiles;
+    }
+
+    /**
+     * Checks whether a tile is blocked by reading the collision and door layers directly.
+     *
+     * @param source         the source of the layers
+     * @param collisionLayer the index of the collision layer, or -1 if there is none
+     * @param doorLayers     the index of each door layer indexed by door number, with -1 for missing or removed doors
+     * @param x              the x coordinate of the tile
+     * @param y              the y coordinate of the tile
+     * @return true if the tile is blocked
+     */
+    public static boolean isTileBlocked(ChunkSource source, int collisionLayer, int[] doorLayers, int x, int y) {
+        for (int i = 1; i < doorLayers.length; i++) {
+            if (doorLayers[i] != -1 && source.getTile(doorLayers[i], x, y) != 0) {
+                return true;
+            }
+        }
+
+        return collisionLayer != -1 && source.getTile(collisionLayer, x, y) != 0;
+    }
+
+    /**
+     * Builds the blocked tile grid from the collision layer and the door layers.
+     *
+     * @param source         the source of the layers
+     * @param collisionLayer the index of the collision layer, or -1 if there is none
+     * @param doorLayers     the index of each door layer indexed by door number, with -1 for missing doors
+     * @return one bit per tile, set if the tile is blocked, indexed by y * width + x
+     */
+    public static Bits buildBlockedTiles(ChunkSource source, int collisionLayer, int[] doorLayers) {
+        int width = source.getWidth();
+        Bits blockedTiles = new Bits(width * source.getHeight());
+        for (int y = 0; y < source.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                if (isTileBlocked(source, collisionLayer, doorLayers, x, y)) {
+                    blockedTiles.set(y * width + x);
+                }
+            }
+        }
+        return blockedTiles;
+    }
+
+    /**
+     * Builds the terrain flag grid from the properties of the tiles on each tile layer except the doors.
+     *
+     * @param source the source of the layers
+     * @return the terrain flags of each tile, indexed by y * width + x
+     * @see Terrain
+     */
+    public static byte[] buildTerrain(ChunkSource source) {
+        int width = source.getWidth();
+        IntIntMap tileTerrain = new IntIntMap();
+
+        byte[] terrain = new byte[width * source.getHeight()];
+        for (int layer = 0; layer < source.getLayerCount(); layer++) {
+            if (source.getLayerName(layer).startsWith(DOOR_LAYER_PREFIX)) {
+                continue;
+            }
+
+            for (int y = 0; y < source.getHeight(); y++) {
+                for (int x = 0; x < width; x++) {
+                    int id = PackedTile.getId(source.getTile(layer, x, y));
+                    if (id == 0) {
+                        continue;
+                    }
+
+                    // Decode the properties of each tile once.
+                    int flags = tileTerrain.get(id, -1);
+                    if (flags == -1) {
+                        TiledMapTile tile = source.getTileSets().getTile(id);
+                        flags = tile != null ? Terrain.fromProperties(tile.getProperties()) : 0;
+                        tileTerrain.put(id, flags);
+                    }
+                    terrain[y * width + x] |= flags;
+                }
+            }
+        }
+        return terrain;
+    }
+}
@@ -0,0 +1,104 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+
+/**
+ * Packs a map cell into a single int: the tile id in the low bits and the flip and rotation flags in the high bits.
+ * A value of 0 represents an empty cell.
+ */
+public final class PackedTile {
+
+    /**
+     * Mask for the tile id.
+     */
+    public static final int ID_MASK = 0x0FFFFFFF;
+
+    /**
+     * Set if the cell is flipped horizontally.
+     */
+    private static final int FLIP_HORIZONTALLY = 0x80000000;
+
+    /**
+     * Set if the cell is flipped vertically.
+     */
+    private static final int FLIP_VERTICALLY = 0x40000000;
+
+    /**
+     * The shift of the two bit rotation field.
+     */
+    private static final int ROTATION_SHIFT = 28;
+
+    private PackedTile() {
+    }
+
+    /**
+     * Packs the specified cell.
+     *
+     * @param cell the cell, may be null
+     * @return the packed cell, or 0 if the cell is empty
+     */
+    public static int pack(Cell cell) {
+        if (cell == null || cell.getTile() == null) {
+            return 0;
+        }
+
+        return pack(cell.getTile().getId(), cell.getFlipHorizontally(), cell.getFlipVertically(), cell.getRotation());
+    }
+
+    /**
+     * Packs a cell from its parts.
+     *
+     * @param id               the tile id, or 0 for an empty cell
+     * @param flipHorizontally whether the cell is flipped horizontally
+     * @param flipVertically   whether the cell is flipped vertically
+     * @param rotation         the rotation of the cell, as one of the Cell.ROTATE constants
+     * @return the packed cell, or 0 if the cell is empty
+     */
+    public static int pack(int id, boolean flipHorizontally, boolean flipVertically, int rotation) {
+        if (id == 0) {
+            return 0;
+        }
+
+        int packed = id & ID_MASK;
+        if (flipHorizontally) {
+            packed |= FLIP_HORIZONTALLY;
+        }
+        if (flipVertically) {
+            packed |= FLIP_VERTICALLY;
+        }
+        return packed | (rotation & 3) << ROTATION_SHIFT;
+    }
+
+    /**
+     * Gets the tile id of a packed cell.
+     *
+     * @param packed the packed cell
+     * @return the tile id
+     */
+    public static int getId(int packed) {
+        return packed & ID_MASK;
+    }
+
+    /**
+     * Unpacks a packed cell.
+     *
+     * @param packed   the packed cell
+     * @param tileSets the tile sets to look the tile up in
+     * @return the cell, or null if the packed cell is empty or its tile doesn't exist
+     */
+    public static Cell unpack(int packed, TiledMapTileSets tileSets) {
+        TiledMapTile tile = packed == 0 ? null : tileSets.getTile(getId(packed));
+        if (tile == null) {
+            return null;
+        }
+
+        Cell cell = new Cell();
+        cell.setTile(tile);
+        cell.setFlipHorizontally((packed & FLIP_HORIZONTALLY) != 0);
+        cell.setFlipVertically((packed & FLIP_VERTICALLY) != 0);
+        cell.setRotation(packed >>> ROTATION_SHIFT & 3);
+        return cell;
+    }
+}
@@ -0,0 +1,158 @@
+package com.mygdx.game.map;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A chunk source backed by a map loaded from a TMX file. The tile layers are packed into int arrays and removed from
+ * the map, so only the tile sets and object layers of the map stay loaded.
+ * <p>
+ * Every tile of every layer stays in memory for as long as the source is used, however few chunks are loaded. The
+ * game only uses this source when the binary map hasn't been compiled during development; the map compiler uses it
+ * to read TMX files. Shipped builds load the binary map through {@link BinaryChunkSource} instead.
+ */
+public class TiledMapChunkSource implements ChunkSource {
+
+    /**
+     * The map the tile layers were taken from.
+     */
+    private TiledMap map;
+
+    /**
+     * The width and height of the map in tiles.
+     */
+    private int width, height;
+
+    /**
+     * The name of each layer.
+     */
+    private String[] names;
+
+    /**
+     * Whether each layer is visible.
+     */
+    private boolean[] visible;
+
+    /**
+     * The properties of each layer.
+     */
+    private MapProperties[] properties;
+
+    /**
+     * The packed cells of each layer, indexed by y * width + x. This holds the whole map.
+     */
+    private int[][] tiles;
+
+    /**
+     * Creates a new TiledMapChunkSource, taking the tile layers from the specified map.
+     *
+     * @param map the map
+     */
+    public TiledMapChunkSource(TiledMap map) {
+        this.map = map;
+        width = map.getProperties().get("width", Integer.class);
+        height = map.getProperties().get("height", Integer.class);
+
+        Array<TiledMapTileLayer> layers = new Array<TiledMapTileLayer>();
+        for (MapLayer layer : map.getLayers()) {
+            if (layer instanceof TiledMapTileLayer) {
+                layers.add((TiledMapTileLayer) layer);
+            }
+        }
+
+        names = new String[layers.size];
+        visible = new boolean[layers.size];
+        properties = new MapProperties[layers.size];
+        tiles = new int[layers.size][width * height];
+
+        for (int i = 0; i < layers.size; i++) {
+            TiledMapTileLayer layer = layers.get(i);
+            names[i] = layer.getName();
+            visible[i] = layer.isVisible();
+            properties[i] = layer.getProperties();
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    tiles[i][y * width + x] = PackedTile.pack(layer.getCell(x, y));
+                }
+            }
+            map.getLayers().remove(layer);
+        }
+    }
+
+    /**
+     * @return the width of the map in tiles
+     */
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of the map in tiles
+     */
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the number of tile layers, in render order
+     */
+    @Override
+    public int getLayerCount() {
+        return tiles.length;
+    }
+
+    /**
+     * @param layer the index of the layer
+     * @return the name of the layer
+     */
+    @Override
+    public String getLayerName(int layer) {
+        return names[layer];
+    }
+
+    /**
+     * @param layer the index of the layer
+     * @return whether the layer is visible
+     */
+    @Override
+    public boolean isLayerVisible(int layer) {
+        return visible[layer];
+    }
+
+    /**
+     * @param layer the index of the layer
+     * @return the properties of the layer
+     */
+    @Override
+    public MapProperties getLayerProperties(int layer) {
+        return properties[layer];
+    }
+
+    /**
+     * Gets a tile from a layer.
+     *
+     * @param layer the index of the layer
+     * @param x     the x coordinate of the tile
+     * @param y     the y coordinate of the tile
+     * @return the packed cell at the tile, or 0 if the cell is empty
+     */
+    @Override
+    public int getTile(int layer, int x, int y) {
+        return tiles[layer][y * width + x];
+    }
+
+    /**
+     * @return the tile sets of the map
+     */
+    @Override
+    public TiledMapTileSets getTileSets() {
+        return map.getTileSets();
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Classes for storing the world map as chunks which are loaded around the player and evicted when far away, for
+ * loading maps compiled to the binary map format, and for tracking and drawing the fog of war over unexplored tiles.
+ */
+package com.mygdx.game.map;
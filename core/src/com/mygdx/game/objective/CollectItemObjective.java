@@ -2,6 +2,8 @@ package com.mygdx.game.objective;
 
 import com.mygdx.game.Game;
 
+import java.util.List;
+
 /**
  * CHANGE O4: Added an objective to obtain a specific drop.
  */
@@ -33,9 +35,11 @@ public class CollectItemObjective implements Objective {
     @Override
     public boolean isComplete() {
         int count = 0;
+        List<Integer> consumables = Game.party.getConsumables();
 
-        for (int item : Game.party.getConsumables()) {
-            if (item == itemId)
+        // Indexed loop so that checking every frame doesn't allocate an iterator.
+        for (int i = 0; i < consumables.size(); i++) {
+            if (consumables.get(i) == itemId)
                 count++;
         }
 
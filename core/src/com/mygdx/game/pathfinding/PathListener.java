@@ -0,0 +1,15 @@
+package com.mygdx.game.pathfinding;
+
+/**
+ * Receives the result of a path request.
+ */
+public interface PathListener {
+
+    /**
+     * Called when a path has been found, or when no path exists.
+     *
+     * @param path the path, or null if the goal can't be reached
+     */
+    void pathFound(TilePath path);
+
+}
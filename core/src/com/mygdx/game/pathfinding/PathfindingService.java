@@ -0,0 +1,235 @@
+package com.mygdx.game.pathfinding;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.game.LevelSnapshot;
+import com.mygdx.game.Terrain;
+
+/**
+ * Finds paths between tiles of a level snapshot for characters that move on their own. Requests are queued and solved
+ * together in one batch when the service is updated, and characters asking for the same start and goal share one
+ * search. Found paths are cached until the blocked tiles of the snapshot change.
+ * <p>
+ * A PathfindingService only reads from its snapshot, so it may be used from a thread other than the one updating the
+ * level, as long as it is only used by one thread at a time and the snapshot isn't retaken during a search. The
+ * wandering characters use it from a worker thread, so the searches take no time from the frame.
+ * <p>
+ * Paths only go around blocked tiles, not other characters, since characters move while the path is being followed.
+ * Characters check for each other one step at a time as they move along the path.
+ */
+public class PathfindingService {
+
+    /**
+     * How many tiles beyond the start and goal a search may wander before giving up.
+     */
+    public static final int SEARCH_MARGIN = 16;
+
+    /**
+     * The most paths kept in the cache.
+     */
+    public static final int CACHE_SIZE = 256;
+
+    /**
+     * The snapshot of the level paths are found in.
+     */
+    private LevelSnapshot level;
+
+    /**
+     * The graph of the tiles of the level.
+     */
+    private TileGraph graph;
+
+    /**
+     * The path finder, which keeps its node records between searches.
+     */
+    private IndexedAStarPathFinder<TileNode> pathFinder;
+
+    /**
+     * Estimates the distance between two tiles as the number of steps between them.
+     */
+    private Heuristic<TileNode> heuristic = new Heuristic<TileNode>() {
+        @Override
+        public float estimate(TileNode node, TileNode endNode) {
+            return Math.abs(endNode.getX() - node.getX()) + Math.abs(endNode.getY() - node.getY());
+        }
+    };
+
+    /**
+     * The path the path finder writes its result into, reused between searches.
+     */
+    private DefaultGraphPath<TileNode> graphPath = new DefaultGraphPath<TileNode>();
+
+    /**
+     * The keys of the requests waiting to be solved, in the order they were first made.
+     */
+    private LongArray pendingKeys = new LongArray();
+
+    /**
+     * The listeners waiting on each pending request.
+     */
+    private LongMap<Array<PathListener>> pendingListeners = new LongMap<Array<PathListener>>();
+
+    /**
+     * Pools the listener arrays of solved requests.
+     */
+    private Pool<Array<PathListener>> listenerArrayPool = new Pool<Array<PathListener>>() {
+        @Override
+        protected Array<PathListener> newObject() {
+            return new Array<PathListener>(false, 4);
+        }
+    };
+
+    /**
+     * The cached results of solved requests. Unreachable goals are cached as null.
+     */
+    private LongMap<TilePath> cache = new LongMap<TilePath>();
+
+    /**
+     * The keys of the cached results, oldest first, so the oldest can be evicted when the cache is full.
+     */
+    private LongArray cacheOrder = new LongArray();
+
+    /**
+     * The version of the snapshot's blocked tiles that the cache was built against.
+     */
+    private int cacheVersion;
+
+    /**
+     * Creates a new PathfindingService for the specified level snapshot, which must already have been taken. Paths
+     * avoid water, which characters can't walk through.
+     *
+     * @param level the snapshot of the level
+     */
+    public PathfindingService(LevelSnapshot level) {
+        this.level = level;
+        graph = new TileGraph(level, Terrain.WATER);
+        pathFinder = new IndexedAStarPathFinder<TileNode>(graph);
+        cacheVersion = level.getCollisionVersion();
+    }
+
+    /**
+     * Asks for a path between two tiles. If the path is cached the listener is called straight away, otherwise it is
+     * called during the next update.
+     *
+     * @param startX   the x coordinate of the start tile
+     * @param startY   the y coordinate of the start tile
+     * @param goalX    the x coordinate of the goal tile
+     * @param goalY    the y coordinate of the goal tile
+     * @param listener the listener to give the path to
+     */
+    public void requestPath(int startX, int startY, int goalX, int goalY, PathListener listener) {
+        checkVersion();
+
+        long key = getKey(startX, startY, goalX, goalY);
+        if (cache.containsKey(key)) {
+            listener.pathFound(cache.get(key));
+            return;
+        }
+
+        Array<PathListener> listeners = pendingListeners.get(key);
+        if (listeners == null) {
+            listeners = listenerArrayPool.obtain();
+            pendingListeners.put(key, listeners);
+            pendingKeys.add(key);
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Solves every pending request, oldest first, and gives the paths to their listeners.
+     */
+    public void update() {
+        checkVersion();
+
+        for (int i = 0; i < pendingKeys.size; i++) {
+            long key = pendingKeys.get(i);
+            TilePath path = solve(key);
+            cachePath(key, path);
+
+            Array<PathListener> listeners = pendingListeners.remove(key);
+            for (PathListener listener : listeners) {
+                listener.pathFound(path);
+            }
+            listeners.clear();
+            listenerArrayPool.free(listeners);
+        }
+        pendingKeys.clear();
+    }
+
+    /**
+     * Searches for the path for a request.
+     *
+     * @param key the key of the request
+     * @return the path, or null if the goal can't be reached
+     */
+    private TilePath solve(long key) {
+        int width = level.getMapWidth();
+        int start = (int) (key >>> 32);
+        int goal = (int) key;
+        int startX = start % width, startY = start / width;
+        int goalX = goal % width, goalY = goal / width;
+
+        graph.setSearchArea(Math.min(startX, goalX) - SEARCH_MARGIN, Math.min(startY, goalY) - SEARCH_MARGIN,
+                Math.max(startX, goalX) + SEARCH_MARGIN, Math.max(startY, goalY) + SEARCH_MARGIN);
+        if (!graph.isWalkable(goalX, goalY)) {
+            return null;
+        }
+
+        graphPath.clear();
+        if (!pathFinder.searchNodePath(graph.getNode(start), graph.getNode(goal), heuristic, graphPath)) {
+            return null;
+        }
+
+        int[] xs = new int[graphPath.getCount()];
+        int[] ys = new int[graphPath.getCount()];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = graphPath.get(i).getX();
+            ys[i] = graphPath.get(i).getY();
+        }
+        return new TilePath(xs, ys);
+    }
+
+    /**
+     * Adds a path to the cache, evicting the oldest path if the cache is full.
+     *
+     * @param key  the key of the request
+     * @param path the path
+     */
+    private void cachePath(long key, TilePath path) {
+        if (cacheOrder.size >= CACHE_SIZE) {
+            cache.remove(cacheOrder.removeIndex(0));
+        }
+        cache.put(key, path);
+        cacheOrder.add(key);
+    }
+
+    /**
+     * Empties the cache if the blocked tiles of the snapshot have changed since it was filled.
+     */
+    private void checkVersion() {
+        if (cacheVersion != level.getCollisionVersion()) {
+            cacheVersion = level.getCollisionVersion();
+            cache.clear();
+            cacheOrder.clear();
+        }
+    }
+
+    /**
+     * Packs the start and goal tiles of a request into a single key.
+     *
+     * @param startX the x coordinate of the start tile
+     * @param startY the y coordinate of the start tile
+     * @param goalX  the x coordinate of the goal tile
+     * @param goalY  the y coordinate of the goal tile
+     * @return the key
+     */
+    private long getKey(int startX, int startY, int goalX, int goalY) {
+        int width = level.getMapWidth();
+        return (long) (startY * width + startX) << 32 | (goalY * width + goalX);
+    }
+}
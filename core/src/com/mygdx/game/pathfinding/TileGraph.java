@@ -0,0 +1,162 @@
+package com.mygdx.game.pathfinding;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultConnection;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.LevelSnapshot;
+import com.mygdx.game.entity.Direction;
+
+/**
+ * The tiles of a level snapshot as a graph, with each tile connected to the four tiles next to it. Connections are
+ * filtered against the snapshot's blocked tiles each time they are asked for, so opening a door needs no rebuild.
+ */
+public class TileGraph implements IndexedGraph<TileNode> {
+
+    /**
+     * The snapshot of the level the tiles belong to.
+     */
+    private LevelSnapshot level;
+
+    /**
+     * The width and height of the level in tiles.
+     */
+    private int width, height;
+
+    /**
+     * Every tile of the level, indexed by y * width + x.
+     */
+    private TileNode[] nodes;
+
+    /**
+     * The terrain flags of tiles that paths avoid.
+     */
+    private int avoidTerrain;
+
+    /**
+     * The area searches are limited to, in tiles.
+     */
+    private int minX, minY, maxX, maxY;
+
+    /**
+     * The connections returned by the last call to getConnections, reused between calls.
+     */
+    private Array<Connection<TileNode>> connections = new Array<Connection<TileNode>>(4);
+
+    /**
+     * Creates a new TileGraph over the specified level snapshot, which must already have been taken.
+     *
+     * @param level        the snapshot of the level
+     * @param avoidTerrain the terrain flags of tiles that paths avoid
+     */
+    public TileGraph(LevelSnapshot level, int avoidTerrain) {
+        this.level = level;
+        this.avoidTerrain = avoidTerrain;
+        width = level.getMapWidth();
+        height = level.getMapHeight();
+
+        nodes = new TileNode[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                nodes[y * width + x] = new TileNode(this, x, y, y * width + x);
+            }
+        }
+        setSearchArea(0, 0, width - 1, height - 1);
+    }
+
+    /**
+     * Limits searches to the specified area, so a search for an unreachable tile doesn't visit the whole map.
+     *
+     * @param minX the lowest x coordinate that may be visited
+     * @param minY the lowest y coordinate that may be visited
+     * @param maxX the highest x coordinate that may be visited
+     * @param maxY the highest y coordinate that may be visited
+     */
+    public void setSearchArea(int minX, int minY, int maxX, int maxY) {
+        this.minX = Math.max(0, minX);
+        this.minY = Math.max(0, minY);
+        this.maxX = Math.min(width - 1, maxX);
+        this.maxY = Math.min(height - 1, maxY);
+    }
+
+    /**
+     * Checks whether paths may pass through the specified tile.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the tile is in the search area, isn't blocked and doesn't have avoided terrain
+     */
+    public boolean isWalkable(int x, int y) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY
+                && !level.isTileBlocked(x, y) && (level.getTerrain(x, y) & avoidTerrain) == 0;
+    }
+
+    /**
+     * Gets the node for the specified tile.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return the node, or null if the tile is outside the level
+     */
+    public TileNode getNode(int x, int y) {
+        return level.isInBounds(x, y) ? nodes[y * width + x] : null;
+    }
+
+    /**
+     * Gets the node with the specified index.
+     *
+     * @param index the index of the tile, y * width + x
+     * @return the node
+     */
+    public TileNode getNode(int index) {
+        return nodes[index];
+    }
+
+    /**
+     * Gets the connections from a tile to the neighbouring tiles that can be walked onto. The returned array is reused
+     * by the next call.
+     *
+     * @param fromNode the tile
+     * @return the connections
+     */
+    @Override
+    public Array<Connection<TileNode>> getConnections(TileNode fromNode) {
+        if (fromNode.neighbours == null) {
+            fromNode.neighbours = newConnections(Direction.values().length);
+            for (Direction direction : Direction.values()) {
+                TileNode toNode = getNode(fromNode.getX() + direction.getDeltaX(), fromNode.getY() + direction.getDeltaY());
+                if (toNode != null) {
+                    fromNode.neighbours[direction.getIndex()] = new DefaultConnection<TileNode>(fromNode, toNode);
+                }
+            }
+        }
+
+        connections.clear();
+        for (Connection<TileNode> connection : fromNode.neighbours) {
+            if (connection != null && isWalkable(connection.getToNode().getX(), connection.getToNode().getY())) {
+                connections.add(connection);
+            }
+        }
+        return connections;
+    }
+
+    /**
+     * Creates an array of connections. Java can't create arrays of a generic type directly, so this creates an array
+     * of wildcard connections and casts it, which is safe as only connections between tiles are stored in it.
+     *
+     * @param size the length of the array
+     * @return the array, filled with null
+     */
+    @SuppressWarnings("unchecked")
+    private static Connection<TileNode>[] newConnections(int size) {
+        return (Connection<TileNode>[]) new Connection<?>[size];
+    }
+
+    /**
+     * @return the number of tiles in the level
+     */
+    @Override
+    public int getNodeCount() {
+        return nodes.length;
+    }
+}
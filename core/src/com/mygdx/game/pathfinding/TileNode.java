@@ -0,0 +1,76 @@
+package com.mygdx.game.pathfinding;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedNode;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Represents one tile of the level in the tile graph.
+ */
+public class TileNode implements IndexedNode<TileNode> {
+
+    /**
+     * The graph this TileNode belongs to.
+     */
+    private TileGraph graph;
+
+    /**
+     * The coordinates of the tile.
+     */
+    private int x, y;
+
+    /**
+     * The index of the tile, y * mapWidth + x.
+     */
+    private int index;
+
+    /**
+     * The connections to each neighbouring tile, indexed by direction. Created the first time the tile is searched.
+     */
+    Connection<TileNode>[] neighbours;
+
+    /**
+     * Creates a new TileNode with the specified parameters.
+     *
+     * @param graph the graph the node belongs to
+     * @param x     the x coordinate of the tile
+     * @param y     the y coordinate of the tile
+     * @param index the index of the tile
+     */
+    TileNode(TileGraph graph, int x, int y, int index) {
+        this.graph = graph;
+        this.x = x;
+        this.y = y;
+        this.index = index;
+    }
+
+    /**
+     * @return the index of the tile, y * mapWidth + x
+     */
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the connections to the neighbouring tiles that can currently be walked onto
+     */
+    @Override
+    public Array<Connection<TileNode>> getConnections() {
+        return graph.getConnections(this);
+    }
+
+    /**
+     * @return the x coordinate of the tile
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * @return the y coordinate of the tile
+     */
+    public int getY() {
+        return y;
+    }
+}
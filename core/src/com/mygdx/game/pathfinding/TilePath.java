@@ -0,0 +1,52 @@
+package com.mygdx.game.pathfinding;
+
+/**
+ * An unchanging list of tiles from a start tile to a goal tile. Paths are cached and shared between characters, so
+ * each character keeps its own position along the path.
+ */
+public class TilePath {
+
+    /**
+     * The x coordinates of the tiles, starting with the start tile.
+     */
+    private int[] xs;
+
+    /**
+     * The y coordinates of the tiles, starting with the start tile.
+     */
+    private int[] ys;
+
+    /**
+     * Creates a new TilePath with the specified tiles.
+     *
+     * @param xs the x coordinates of the tiles
+     * @param ys the y coordinates of the tiles
+     */
+    TilePath(int[] xs, int[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    /**
+     * @return the number of tiles on this TilePath, including the start tile
+     */
+    public int getLength() {
+        return xs.length;
+    }
+
+    /**
+     * @param i the position along this TilePath
+     * @return the x coordinate of the tile at that position
+     */
+    public int getX(int i) {
+        return xs[i];
+    }
+
+    /**
+     * @param i the position along this TilePath
+     * @return the y coordinate of the tile at that position
+     */
+    public int getY(int i) {
+        return ys[i];
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains classes for finding paths between tiles of the level.
+ */
+package com.mygdx.game.pathfinding;
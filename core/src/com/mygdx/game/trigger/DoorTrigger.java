@@ -0,0 +1,88 @@
+package com.mygdx.game.trigger;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.mygdx.game.Game;
+import com.mygdx.game.Level;
+import com.mygdx.game.entity.Mappers;
+
+/**
+ * Represents a door which moves the player into the next map segment.
+ */
+public class DoorTrigger implements Trigger {
+
+    /**
+     * The first tile covered by this DoorTrigger, used to tell when the player is approaching it.
+     */
+    private Vector2 position;
+
+    /**
+     * The tile the player is moved to when walking through this DoorTrigger.
+     */
+    private Vector2 exit;
+
+    /**
+     * The map segment this DoorTrigger leads into.
+     */
+    private int segment;
+
+    /**
+     * Creates a new DoorTrigger with the specified parameters.
+     *
+     * @param position the first tile covered by this DoorTrigger
+     * @param exit     the tile the player is moved to
+     * @param segment  the map segment this DoorTrigger leads into
+     */
+    public DoorTrigger(Vector2 position, Vector2 exit, int segment) {
+        this.position = position;
+        this.exit = exit;
+        this.segment = segment;
+    }
+
+    /**
+     * Asks the level to move the player through this DoorTrigger once the next segment is loaded.
+     *
+     * @param level  the level the character belongs to
+     * @param entity the character that stepped onto the door
+     */
+    @Override
+    public void activate(Level level, Entity entity) {
+        if (Mappers.player.has(entity)) {
+            level.enterSegment(this);
+        }
+    }
+
+    /**
+     * Moves the player to the exit of this DoorTrigger and starts the next segment. Wandering characters never stop on
+     * the exit, but if one is walking across it the player lands on the nearest free tile instead.
+     *
+     * @param level  the level the player belongs to
+     * @param player the player
+     */
+    public void enter(Level level, Entity player) {
+        level.placeEntity(player, (int) exit.x, (int) exit.y);
+        Game.segment = segment;
+        Game.setObjective();
+    }
+
+    /**
+     * @return the first tile covered by this DoorTrigger
+     */
+    public Vector2 getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the tile the player is moved to when walking through this DoorTrigger
+     */
+    public Vector2 getExit() {
+        return exit;
+    }
+
+    /**
+     * @return the map segment this DoorTrigger leads into
+     */
+    public int getSegment() {
+        return segment;
+    }
+}
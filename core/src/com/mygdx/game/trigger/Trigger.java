@@ -0,0 +1,19 @@
+package com.mygdx.game.trigger;
+
+import com.badlogic.ashley.core.Entity;
+import com.mygdx.game.Level;
+
+/**
+ * Represents a trigger placed on one or more tiles of the map.
+ */
+public interface Trigger {
+
+    /**
+     * Called when a character finishes moving onto a tile covered by this Trigger.
+     *
+     * @param level  the level the character belongs to
+     * @param entity the character that stepped onto the tile
+     */
+    void activate(Level level, Entity entity);
+
+}
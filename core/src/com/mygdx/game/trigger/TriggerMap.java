@@ -0,0 +1,142 @@
+package com.mygdx.game.trigger;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+
+import static com.mygdx.game.Level.TILE_SIZE;
+
+/**
+ * Stores the triggers on a map, indexed by the tile they cover.
+ */
+public class TriggerMap {
+
+    /**
+     * The name of the map object layer that triggers are read from.
+     */
+    public static final String LAYER_NAME = "Triggers";
+
+    /**
+     * The triggers on the map, keyed by y * mapWidth + x of each tile they cover.
+     */
+    private IntMap<Trigger> triggers = new IntMap<Trigger>();
+
+    /**
+     * The door leading into each segment, indexed by segment number.
+     */
+    private DoorTrigger[] doors = new DoorTrigger[0];
+
+    /**
+     * The width of the map in tiles.
+     */
+    private int mapWidth;
+
+    /**
+     * Creates a new TriggerMap from the rectangle objects on the specified layer.
+     *
+     * @param layer    the object layer to read triggers from, or null if the map has none
+     * @param mapWidth the width of the map in tiles
+     */
+    public TriggerMap(MapLayer layer, int mapWidth) {
+        this.mapWidth = mapWidth;
+
+        if (layer == null) {
+            return;
+        }
+
+        for (MapObject object : layer.getObjects()) {
+            if (!(object instanceof RectangleMapObject)) {
+                continue;
+            }
+
+            Rectangle bounds = ((RectangleMapObject) object).getRectangle();
+            int startX = (int) (bounds.x / TILE_SIZE), startY = (int) (bounds.y / TILE_SIZE);
+            int endX = (int) Math.ceil((bounds.x + bounds.width) / TILE_SIZE);
+            int endY = (int) Math.ceil((bounds.y + bounds.height) / TILE_SIZE);
+            Trigger trigger = createTrigger(object, startX, startY);
+
+            for (int y = startY; y < endY; y++) {
+                for (int x = startX; x < endX; x++) {
+                    triggers.put(y * mapWidth + x, trigger);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a trigger from a map object according to its type.
+     *
+     * @param object the map object
+     * @param x      the x coordinate of the first tile the object covers
+     * @param y      the y coordinate of the first tile the object covers
+     * @return the trigger
+     */
+    private Trigger createTrigger(MapObject object, int x, int y) {
+        MapProperties properties = object.getProperties();
+        String type = properties.get("type", String.class);
+
+        if ("door".equals(type)) {
+            Vector2 exit = new Vector2(getInt(properties, "exitX"), getInt(properties, "exitY"));
+            DoorTrigger door = new DoorTrigger(new Vector2(x, y), exit, getInt(properties, "segment"));
+            addDoor(door);
+            return door;
+        }
+
+        throw new GdxRuntimeException("Unknown trigger type '" + type + "' on map object " + object.getName());
+    }
+
+    /**
+     * Records a door as the entrance to its segment.
+     *
+     * @param door the door
+     */
+    private void addDoor(DoorTrigger door) {
+        if (door.getSegment() >= doors.length) {
+            DoorTrigger[] newDoors = new DoorTrigger[door.getSegment() + 1];
+            System.arraycopy(doors, 0, newDoors, 0, doors.length);
+            doors = newDoors;
+        }
+        doors[door.getSegment()] = door;
+    }
+
+    /**
+     * Reads an integer property from a map object.
+     *
+     * @param properties the properties of the map object
+     * @param key        the name of the property
+     * @return the value of the property
+     */
+    private static int getInt(MapProperties properties, String key) {
+        Object value = properties.get(key);
+        if (value == null) {
+            throw new GdxRuntimeException("Trigger is missing property " + key);
+        }
+        return Integer.parseInt(value.toString());
+    }
+
+    /**
+     * Gets the trigger covering the specified tile.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return the trigger, or null if there is none
+     */
+    public Trigger get(int x, int y) {
+        return triggers.get(y * mapWidth + x);
+    }
+
+    /**
+     * Gets the door leading into the specified segment.
+     *
+     * @param segment the segment
+     * @return the door, or null if no door leads into the segment
+     */
+    public DoorTrigger getDoor(int segment) {
+        return segment >= 0 && segment < doors.length ? doors[segment] : null;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains classes representing map triggers that fire when a character steps onto a tile.
+ */
+package com.mygdx.game.trigger;
\ No newline at end of file
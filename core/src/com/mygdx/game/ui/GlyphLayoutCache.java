@@ -0,0 +1,184 @@
+package com.mygdx.game.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches laid out text so UI components don't lay out the same text again every frame. Layouts are keyed by the
+ * font, text, target width, alignment, wrapping and colour, and the least recently used layout is replaced once the
+ * cache is full. Looking up text that is already cached allocates nothing.
+ */
+public class GlyphLayoutCache {
+
+    /**
+     * The most layouts kept at once.
+     */
+    private final int capacity;
+
+    /**
+     * The cached layouts, ordered from least to most recently used.
+     */
+    private final LinkedHashMap<Key, GlyphLayout> layouts;
+
+    /**
+     * The key filled in for each lookup, so lookups don't allocate a key.
+     */
+    private final Key lookup = new Key();
+
+    /**
+     * Creates a new GlyphLayoutCache holding up to the specified number of layouts.
+     *
+     * @param capacity the most layouts to keep at once
+     */
+    public GlyphLayoutCache(int capacity) {
+        this.capacity = capacity;
+        layouts = new LinkedHashMap<Key, GlyphLayout>(capacity * 4 / 3 + 1, 0.75f, true);
+    }
+
+    /**
+     * Gets the layout of some text, laying it out only if it isn't already cached. The layout is shared and must not
+     * be changed.
+     *
+     * @param font        the font to lay out the text in
+     * @param text        the text
+     * @param color       the colour of the text
+     * @param targetWidth the width to align and wrap the text within
+     * @param align       the horizontal alignment, from {@link com.badlogic.gdx.utils.Align}
+     * @param wrap        whether to wrap the text to the target width
+     * @return the layout
+     */
+    public GlyphLayout get(BitmapFont font, String text, Color color, float targetWidth, int align, boolean wrap) {
+        lookup.set(font, text, Color.rgba8888(color), targetWidth, align, wrap);
+        GlyphLayout layout = layouts.get(lookup);
+        if (layout != null) {
+            return layout;
+        }
+
+        Key key;
+        if (layouts.size() >= capacity) {
+            // Reuse the key and layout of the least recently used entry rather than allocating new ones.
+            Iterator<Map.Entry<Key, GlyphLayout>> eldest = layouts.entrySet().iterator();
+            Map.Entry<Key, GlyphLayout> entry = eldest.next();
+            key = entry.getKey();
+            layout = entry.getValue();
+            eldest.remove();
+        } else {
+            key = new Key();
+            layout = new GlyphLayout();
+        }
+        key.set(font, text, lookup.color, targetWidth, align, wrap);
+        layout.setText(font, text, color, targetWidth, align, wrap);
+        layouts.put(key, layout);
+        return layout;
+    }
+
+    /**
+     * @return the number of layouts cached
+     */
+    public int size() {
+        return layouts.size();
+    }
+
+    /**
+     * Removes every layout from the cache.
+     */
+    public void clear() {
+        layouts.clear();
+    }
+
+    /**
+     * Identifies a piece of laid out text.
+     */
+    private static class Key {
+
+        /**
+         * The font the text is laid out in.
+         */
+        private BitmapFont font;
+
+        /**
+         * The text.
+         */
+        private String text;
+
+        /**
+         * The colour of the text as RGBA8888.
+         */
+        private int color;
+
+        /**
+         * The width the text is aligned and wrapped within.
+         */
+        private float targetWidth;
+
+        /**
+         * The horizontal alignment.
+         */
+        private int align;
+
+        /**
+         * Whether the text is wrapped.
+         */
+        private boolean wrap;
+
+        /**
+         * The hash code, worked out when the key is set.
+         */
+        private int hash;
+
+        /**
+         * Sets every part of this key.
+         *
+         * @param font        the font the text is laid out in
+         * @param text        the text
+         * @param color       the colour of the text as RGBA8888
+         * @param targetWidth the width the text is aligned and wrapped within
+         * @param align       the horizontal alignment
+         * @param wrap        whether the text is wrapped
+         */
+        private void set(BitmapFont font, String text, int color, float targetWidth, int align, boolean wrap) {
+            this.font = font;
+            this.text = text;
+            this.color = color;
+            this.targetWidth = targetWidth;
+            this.align = align;
+            this.wrap = wrap;
+
+            int result = System.identityHashCode(font);
+            result = 31 * result + text.hashCode();
+            result = 31 * result + color;
+            result = 31 * result + Float.floatToIntBits(targetWidth);
+            result = 31 * result + align;
+            hash = 31 * result + (wrap ? 1 : 0);
+        }
+
+        /**
+         * @return the hash code of this key
+         */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        /**
+         * Checks whether another key identifies the same text.
+         *
+         * @param o the other key
+         * @return true if every part of the keys is equal
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return font == other.font && color == other.color && targetWidth == other.targetWidth
+                    && align == other.align && wrap == other.wrap && text.equals(other.text);
+        }
+    }
+}
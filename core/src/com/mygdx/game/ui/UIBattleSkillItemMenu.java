@@ -3,15 +3,17 @@ package com.mygdx.game.ui;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.NinePatch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Pool;
 import com.mygdx.game.assets.Assets;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Represents a menu of either skills or items selectable in battle.
+ * Represents a menu of either skills or items selectable in battle. Menus are pooled by the battle menu and emptied
+ * when they are freed.
  */
-public class UIBattleSkillItemMenu extends UIComponent {
+public class UIBattleSkillItemMenu extends UIComponent implements Pool.Poolable {
 
     /**
      * Menu items.
@@ -69,6 +71,15 @@ public class UIBattleSkillItemMenu extends UIComponent {
         }
     }
 
+    /**
+     * Removes every item from this menu and selects the first item, ready for the menu to be reused.
+     */
+    @Override
+    public void reset() {
+        listItems.clear();
+        selected = 0;
+    }
+
     /**
      * Renders this UIBattleSkillItemMenu onto the specified sprite batch.
      *
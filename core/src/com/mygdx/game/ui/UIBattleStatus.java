@@ -3,12 +3,12 @@ package com.mygdx.game.ui;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.NinePatch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.mygdx.game.Agent;
 import com.mygdx.game.PartyManager;
 import com.mygdx.game.Statistics;
 import com.mygdx.game.assets.Assets;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -21,6 +21,12 @@ public class UIBattleStatus extends UIComponent {
      */
     public List<String> textList;
 
+    /**
+     * The HP, max HP, MP and max MP each agent's stats line was last built from, so lines are only rebuilt when the
+     * stats change.
+     */
+    private int[] shownStats = new int[0];
+
     /**
      * Which agent's turn it is.
      */
@@ -57,15 +63,32 @@ public class UIBattleStatus extends UIComponent {
     }
 
     /**
-     * Fills the textList with alternating strings of agent names and agent stats.
+     * Fills the textList with alternating strings of agent names and agent stats, rebuilding only the stats lines of
+     * agents whose stats have changed since the last call.
      */
     private void listToString() {
-        textList.clear();
+        if (textList.size() != party.size() * 2) {
+            textList.clear();
+            for (int x = 0; x < party.size(); x++) {
+                textList.add(party.getMember(x).getName());
+                textList.add("");
+            }
+            shownStats = new int[party.size() * 4];
+            Arrays.fill(shownStats, -1);
+        }
+
         for (int x = 0; x < party.size(); x++) {
-            Agent thisAgent = party.getMember(x);
-            Statistics thisAgentStats = thisAgent.getStats();
-            textList.add(thisAgent.getName());
-            textList.add("HP:" + thisAgentStats.getCurrentHP() + "/" + thisAgentStats.getMaxHP() + " MP:" + thisAgentStats.getCurrentMP() + "/" + thisAgentStats.getMaxMP());
+            Statistics thisAgentStats = party.getMember(x).getStats();
+            int hp = thisAgentStats.getCurrentHP(), maxHP = thisAgentStats.getMaxHP();
+            int mp = thisAgentStats.getCurrentMP(), maxMP = thisAgentStats.getMaxMP();
+            int index = x * 4;
+            if (hp != shownStats[index] || maxHP != shownStats[index + 1] || mp != shownStats[index + 2] || maxMP != shownStats[index + 3]) {
+                textList.set(x * 2 + 1, "HP:" + hp + "/" + maxHP + " MP:" + mp + "/" + maxMP);
+                shownStats[index] = hp;
+                shownStats[index + 1] = maxHP;
+                shownStats[index + 2] = mp;
+                shownStats[index + 3] = maxMP;
+            }
         }
     }
 
@@ -12,6 +12,16 @@ import com.badlogic.gdx.utils.Align;
  */
 public abstract class UIComponent {
 
+    /**
+     * The most text layouts kept by the layout cache.
+     */
+    private static final int LAYOUT_CACHE_SIZE = 256;
+
+    /**
+     * The text layouts shared by every UI component, so text is only laid out when it first appears.
+     */
+    protected static final GlyphLayoutCache layoutCache = new GlyphLayoutCache(LAYOUT_CACHE_SIZE);
+
     /**
      * Position of this UIComponent.
      */
@@ -86,11 +96,11 @@ public abstract class UIComponent {
      * @param font     the font to use
      */
     protected final void renderText(SpriteBatch batch, String message, float x, float y, float paddingX, float paddingY, Color color, BitmapFont font) {
-        GlyphLayout layout = new GlyphLayout(font, message,
+        GlyphLayout layout = layoutCache.get(font, message,
                 Color.BLACK, width - paddingX * 2, Align.left, false);
 
         font.draw(batch, layout, x + paddingX, y + height + paddingY - 2);
-        layout.setText(font, message,
+        layout = layoutCache.get(font, message,
                 color, width - paddingX * 2, Align.left, false);
         font.draw(batch, layout, x + paddingX, y + height + paddingY);
     }
@@ -0,0 +1,47 @@
+package com.mygdx.game.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.NinePatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.mygdx.game.Level;
+
+/**
+ * Represents the loading message shown when the player walks through a door before the segment behind it has loaded.
+ */
+public class UILoading extends UIComponent {
+
+    /**
+     * The level whose loading state is displayed.
+     */
+    private Level level;
+
+    /**
+     * The message box containing the loading message.
+     */
+    private UIMessageBox messageBox;
+
+    /**
+     * Creates a new UILoading for the specified level.
+     *
+     * @param level the level whose loading state is displayed
+     */
+    public UILoading(Level level) {
+        super(0, 0, 200, 20);
+        this.level = level;
+        this.x = (Gdx.graphics.getWidth() - width) / 2;
+        this.y = (Gdx.graphics.getHeight() - height) / 2;
+        this.messageBox = new UIMessageBox("Loading...", this.x, this.y, this.width, this.height, 10, 10);
+    }
+
+    /**
+     * Renders this UILoading onto the specified sprite batch while the level is loading.
+     *
+     * @param batch the sprite batch to render on
+     * @param patch the nine patch for drawing boxes
+     */
+    public void render(SpriteBatch batch, NinePatch patch) {
+        if (level.isLoading()) {
+            messageBox.render(batch, patch);
+        }
+    }
+}
@@ -6,12 +6,14 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.NinePatch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Pool;
 import com.mygdx.game.assets.Assets;
 
 /**
- * Represents a message box with simple text.
+ * Represents a message box with simple text. Message boxes shown briefly, such as the battle information box, are
+ * pooled and given a new message and position each time they are obtained.
  */
-public class UIMessageBox extends UIComponent {
+public class UIMessageBox extends UIComponent implements Pool.Poolable {
 
     /**
      * Text colour.
@@ -118,7 +120,7 @@ public class UIMessageBox extends UIComponent {
      */
     @Override
     public void render(SpriteBatch batch, NinePatch patch) {
-        GlyphLayout layout = new GlyphLayout(font, message,
+        GlyphLayout layout = layoutCache.get(font, message,
                 Color.BLACK, width - paddingX * 2, alignment, true);
         if (layout.height > height) {
             height = (int) layout.height;
@@ -126,11 +128,36 @@ public class UIMessageBox extends UIComponent {
 
         patch.draw(batch, x, y, width, height + (paddingY * 2));
         font.draw(batch, layout, x + paddingX, y + height + paddingY - 2);
-        layout.setText(font, message,
+        layout = layoutCache.get(font, message,
                 color, width - paddingX * 2, alignment, true);
         font.draw(batch, layout, x + paddingX, y + height + paddingY);
     }
 
+    /**
+     * Sets the message and bounds of this UIMessageBox, keeping its font, colour, alignment and padding.
+     *
+     * @param message the message to be displayed
+     * @param x       x coordinate
+     * @param y       y coordinate
+     * @param width   width of message box
+     * @param height  height of message box
+     */
+    public void set(String message, float x, float y, float width, float height) {
+        this.message = message;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Clears the message of this UIMessageBox, ready for it to be reused.
+     */
+    @Override
+    public void reset() {
+        message = "";
+    }
+
     /**
      * Sets the message of this UIMessageBox.
      *
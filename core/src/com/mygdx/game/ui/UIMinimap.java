@@ -0,0 +1,253 @@
+package com.mygdx.game.ui;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.NinePatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.Disposable;
+import com.mygdx.game.Level;
+import com.mygdx.game.Terrain;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.TileMovementComponent;
+import com.mygdx.game.map.FogOfWar;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Represents the minimap in the corner of the overworld. The map is drawn once into a texture with one texel per tile,
+ * after which only the tiles changed by the fog of war or by doors being removed are written and uploaded again.
+ * Characters are drawn as small markers using a white texel kept in the same texture, so the minimap is drawn in a
+ * single batch flush.
+ */
+public class UIMinimap extends UIComponent implements Disposable {
+
+    /**
+     * The size of a tile on the minimap in pixels.
+     */
+    private static final float SCALE = 1f;
+
+    /**
+     * The size of a character marker in pixels.
+     */
+    private static final float MARKER_SIZE = 3f;
+
+    /**
+     * The colours of unexplored, walkable, blocked and water tiles.
+     */
+    private static final int UNEXPLORED = Color.rgba8888(0, 0, 0, 0.6f), GROUND = Color.rgba8888(0.35f, 0.6f, 0.3f, 1),
+            BLOCKED = Color.rgba8888(0.2f, 0.3f, 0.2f, 1), WATER = Color.rgba8888(0.25f, 0.45f, 0.8f, 1);
+
+    /**
+     * The colours of the player and NPC markers.
+     */
+    private static final Color PLAYER_MARKER = Color.RED, NPC_MARKER = Color.YELLOW;
+
+    /**
+     * The level shown on the minimap.
+     */
+    private Level level;
+
+    /**
+     * The fog of war hiding unexplored tiles.
+     */
+    private FogOfWar fog;
+
+    /**
+     * The characters marked on the minimap.
+     */
+    private ImmutableArray<Entity> characters;
+
+    /**
+     * The minimap with one texel per tile, with row 0 holding the bottom row of tiles. The row above the map holds the
+     * white texel markers are drawn with.
+     */
+    private Pixmap pixmap;
+
+    /**
+     * The texture the pixmap is uploaded to.
+     */
+    private Texture texture;
+
+    /**
+     * Which tiles were blocked when the minimap was last updated, to find the tiles changed by removing a door.
+     */
+    private Bits blockedTiles = new Bits();
+
+    /**
+     * The collision version of the level and version of the fog the texture was last updated to.
+     */
+    private int drawnCollisionVersion, drawnFogVersion = -1;
+
+    /**
+     * The first and last rows written to the pixmap since it was last uploaded.
+     */
+    private int dirtyStartY, dirtyEndY;
+
+    /**
+     * Creates a new UIMinimap showing the specified level, drawing every tile into the texture.
+     *
+     * @param level the level to show
+     */
+    public UIMinimap(Level level) {
+        super(0, 0, level.getMapWidth() * SCALE, level.getMapHeight() * SCALE);
+        this.x = Gdx.graphics.getWidth() - width - 10;
+        this.y = Gdx.graphics.getHeight() - height - 60;
+        this.level = level;
+        this.fog = level.fog;
+        this.characters = level.engine.getEntitiesFor(Family.all(TileMovementComponent.class).get());
+
+        int mapWidth = level.getMapWidth(), mapHeight = level.getMapHeight();
+        pixmap = new Pixmap(mapWidth, mapHeight + 1, Pixmap.Format.RGBA8888);
+        setTexel(0, mapHeight, Color.rgba8888(Color.WHITE));
+        for (int tileY = 0; tileY < mapHeight; tileY++) {
+            for (int tileX = 0; tileX < mapWidth; tileX++) {
+                if (level.isTileBlocked(tileX, tileY)) {
+                    blockedTiles.set(tileY * mapWidth + tileX);
+                }
+                setTexel(tileX, tileY, getColour(tileX, tileY));
+            }
+        }
+        texture = new Texture(pixmap);
+
+        drawnCollisionVersion = level.getCollisionVersion();
+        drawnFogVersion = fog.getVersion();
+        dirtyStartY = mapHeight;
+        dirtyEndY = -1;
+    }
+
+    /**
+     * Gets the colour of a tile on the minimap.
+     *
+     * @param tileX the x coordinate of the tile
+     * @param tileY the y coordinate of the tile
+     * @return the colour as RGBA8888
+     */
+    private int getColour(int tileX, int tileY) {
+        if (!fog.isExplored(tileX, tileY)) {
+            return UNEXPLORED;
+        } else if (level.hasTerrain(tileX, tileY, Terrain.WATER)) {
+            return WATER;
+        }
+        return blockedTiles.get(tileY * level.getMapWidth() + tileX) ? BLOCKED : GROUND;
+    }
+
+    /**
+     * Writes a texel straight into the pixmap, replacing it rather than blending with it.
+     *
+     * @param x      the x coordinate of the texel
+     * @param y      the y coordinate of the texel
+     * @param colour the colour as RGBA8888
+     */
+    private void setTexel(int x, int y, int colour) {
+        ByteBuffer pixels = pixmap.getPixels();
+        int index = (y * pixmap.getWidth() + x) * 4;
+        pixels.put(index, (byte) (colour >>> 24));
+        pixels.put(index + 1, (byte) (colour >>> 16));
+        pixels.put(index + 2, (byte) (colour >>> 8));
+        pixels.put(index + 3, (byte) colour);
+    }
+
+    /**
+     * Rewrites the tiles that have changed since the last frame and uploads the rows containing them.
+     */
+    private void updateTexture() {
+        int mapWidth = level.getMapWidth(), mapHeight = level.getMapHeight();
+
+        if (fog.getVersion() != drawnFogVersion) {
+            for (int tileY = 0; tileY < mapHeight; tileY++) {
+                if (fog.getRowVersion(tileY) > drawnFogVersion) {
+                    for (int tileX = 0; tileX < mapWidth; tileX++) {
+                        setTexel(tileX, tileY, getColour(tileX, tileY));
+                    }
+                    markDirty(tileY);
+                }
+            }
+            drawnFogVersion = fog.getVersion();
+        }
+
+        if (level.getCollisionVersion() != drawnCollisionVersion) {
+            for (int tileY = 0; tileY < mapHeight; tileY++) {
+                for (int tileX = 0; tileX < mapWidth; tileX++) {
+                    int index = tileY * mapWidth + tileX;
+                    boolean blocked = level.isTileBlocked(tileX, tileY);
+                    if (blocked != blockedTiles.get(index)) {
+                        if (blocked) {
+                            blockedTiles.set(index);
+                        } else {
+                            blockedTiles.clear(index);
+                        }
+                        setTexel(tileX, tileY, getColour(tileX, tileY));
+                        markDirty(tileY);
+                    }
+                }
+            }
+            drawnCollisionVersion = level.getCollisionVersion();
+        }
+
+        if (dirtyStartY <= dirtyEndY) {
+            ByteBuffer pixels = pixmap.getPixels();
+            texture.bind();
+            Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+            pixels.position(dirtyStartY * mapWidth * 4);
+            Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, dirtyStartY, mapWidth, dirtyEndY - dirtyStartY + 1,
+                    pixmap.getGLFormat(), pixmap.getGLType(), pixels);
+            pixels.position(0);
+
+            dirtyStartY = mapHeight;
+            dirtyEndY = -1;
+        }
+    }
+
+    /**
+     * Records that a row has been written to the pixmap and needs uploading.
+     *
+     * @param tileY the row
+     */
+    private void markDirty(int tileY) {
+        dirtyStartY = Math.min(dirtyStartY, tileY);
+        dirtyEndY = Math.max(dirtyEndY, tileY);
+    }
+
+    /**
+     * Renders this UIMinimap onto the specified sprite batch.
+     *
+     * @param batch the sprite batch to render on
+     * @param patch the nine patch for drawing boxes
+     */
+    public void render(SpriteBatch batch, NinePatch patch) {
+        updateTexture();
+
+        int mapWidth = level.getMapWidth(), mapHeight = level.getMapHeight();
+        // Pixmap rows run from the top of the texture, so the map is flipped to put row 0 at the bottom.
+        batch.draw(texture, x, y, width, height, 0, 0, mapWidth, mapHeight, false, true);
+
+        for (int i = 0; i < characters.size(); i++) {
+            Entity character = characters.get(i);
+            TileMovementComponent movement = Mappers.movement.get(character);
+            boolean isPlayer = Mappers.player.has(character);
+            if (isPlayer || fog.isExplored(movement.tileX, movement.tileY)) {
+                batch.setColor(isPlayer ? PLAYER_MARKER : NPC_MARKER);
+                batch.draw(texture, x + (movement.tileX + 0.5f) * SCALE - MARKER_SIZE / 2,
+                        y + (movement.tileY + 0.5f) * SCALE - MARKER_SIZE / 2, MARKER_SIZE, MARKER_SIZE,
+                        0, mapHeight, 1, 1, false, false);
+            }
+        }
+        batch.setColor(Color.WHITE);
+    }
+
+    /**
+     * Releases the minimap texture and pixmap.
+     */
+    @Override
+    public void dispose() {
+        texture.dispose();
+        pixmap.dispose();
+    }
+}
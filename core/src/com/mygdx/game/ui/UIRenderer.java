@@ -1,12 +1,12 @@
 package com.mygdx.game.ui;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.mygdx.game.RenderContext;
 import com.mygdx.game.assets.Assets;
 
 /**
- * Responsible for rendering each UI component.
+ * Responsible for rendering each UI component. UIRenderers draw on a batch borrowed from the caller, so creating one
+ * for each menu doesn't allocate any graphics resources.
  */
 public class UIRenderer {
 
@@ -15,16 +15,6 @@ public class UIRenderer {
      */
     private UIManager uiManager;
 
-    /**
-     * The camera looking at the UI.
-     */
-    private OrthographicCamera uiCamera;
-
-    /**
-     * The batch on which to render the UI.
-     */
-    private SpriteBatch uiBatch;
-
     /**
      * Creates a new UIRenderer for the specified UI manager.
      *
@@ -32,17 +22,15 @@ public class UIRenderer {
      */
     public UIRenderer(UIManager uiManager) {
         this.uiManager = uiManager;
-
-        uiBatch = new SpriteBatch();
-        uiCamera = new OrthographicCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        uiBatch.setProjectionMatrix(uiCamera.combined);
     }
 
     /**
      * Renders the UI while the player is in the overworld.
+     *
+     * @param context the render context whose batch to draw on
      */
-    public void renderWorld() {
-        uiBatch.begin();
+    public void renderWorld(RenderContext context) {
+        SpriteBatch uiBatch = context.beginScreen();
         for (int x = 0; x < uiManager.getUIComponents().size(); x++) {
             uiManager.getUIComponent(x).render(uiBatch, Assets.patch);
         }
@@ -69,19 +57,4 @@ public class UIRenderer {
             uiManager.dialogue.render(batch, Assets.patch);
         }
     }
-
-    /**
-     * Re-sizes the camera looking at the UI.
-     */
-    public void resize() {
-        uiCamera.setToOrtho(false);
-        uiBatch.setProjectionMatrix(uiCamera.combined);
-    }
-
-    /**
-     * Cleans up any resources being used by this UIRenderer.
-     */
-    public void dispose() {
-        uiBatch.dispose();
-    }
 }
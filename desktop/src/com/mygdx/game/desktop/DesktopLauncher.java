@@ -3,6 +3,7 @@ package com.mygdx.game.desktop;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import com.mygdx.game.Game;
+import com.mygdx.game.Level;
 
 /**
  * Launcher for the game.
@@ -23,6 +24,9 @@ public class DesktopLauncher {
 		 */
 		config.width = 1280;
 		config.height = 720;
+		Level.mapLoader = new MappedBinaryMapLoader();
+		// The run task compiles the map first; this only matters when starting the game from an IDE.
+		Level.allowTmxMap = true;
 		new LwjglApplication(new Game(), config);
 	}
 }
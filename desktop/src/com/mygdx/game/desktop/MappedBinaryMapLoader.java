@@ -0,0 +1,45 @@
+package com.mygdx.game.desktop;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.mygdx.game.map.BinaryMapLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Loads binary maps by memory mapping them, so tiles are paged in from disk only as chunks are read. Files that aren't
+ * on disk, such as those packed into the game's jar, are read into memory instead.
+ */
+public class MappedBinaryMapLoader extends BinaryMapLoader {
+
+    /**
+     * Memory maps a binary map file, falling back to reading it if it isn't on disk.
+     *
+     * @param file the file
+     * @return a buffer holding the contents of the file, positioned at the start
+     */
+    @Override
+    protected ByteBuffer open(FileHandle file) {
+        File diskFile = file.type() == Files.FileType.Classpath ? null : file.file();
+        if (diskFile == null || !diskFile.isFile()) {
+            return super.open(file);
+        }
+
+        try {
+            RandomAccessFile randomAccessFile = new RandomAccessFile(diskFile, "r");
+            try {
+                // The mapping stays valid after the file is closed.
+                return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length());
+            } finally {
+                randomAccessFile.close();
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't map " + file, e);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.mygdx.game.desktop.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.XmlReader.Element;
+import com.mygdx.game.Level;
+import com.mygdx.game.map.BinaryMapFormat;
+import com.mygdx.game.map.ChunkSource;
+import com.mygdx.game.map.MapGrids;
+import com.mygdx.game.map.TiledMapChunkSource;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Compiles TMX maps to the binary map format at build time. Run by the compileMaps task with the TMX files to compile
+ * as arguments; each is written next to its TMX file with the binary map extension.
+ * <p>
+ * The map is read with the same layer and object code as the TMX loader, but tile set images are never loaded, so the
+ * compiler runs without a graphics context. Only tile layers and rectangle objects are compiled.
+ *
+ * @see BinaryMapFormat
+ */
+public class TmxMapCompiler extends TmxMapLoader {
+
+    /**
+     * Compiles each TMX file given.
+     *
+     * @param args the paths of the TMX files
+     * @throws IOException if a file can't be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        TmxMapCompiler compiler = new TmxMapCompiler();
+        for (String path : args) {
+            FileHandle tmxFile = new FileHandle(path);
+            FileHandle binaryFile = tmxFile.sibling(tmxFile.nameWithoutExtension() + "." + BinaryMapFormat.EXTENSION);
+            compiler.compile(tmxFile, binaryFile);
+            System.out.println("Compiled " + tmxFile + " to " + binaryFile + " (" + binaryFile.length() + " bytes)");
+        }
+    }
+
+    /**
+     * Compiles a TMX map to the binary map format.
+     *
+     * @param tmxFile    the TMX file
+     * @param binaryFile the file to write the binary map to
+     * @throws IOException if a file can't be read or written
+     */
+    public void compile(FileHandle tmxFile, FileHandle binaryFile) throws IOException {
+        root = xml.parse(tmxFile);
+        map = new TiledMap();
+
+        int width = root.getIntAttribute("width");
+        int height = root.getIntAttribute("height");
+        mapTileWidth = root.getIntAttribute("tilewidth");
+        mapTileHeight = root.getIntAttribute("tileheight");
+        mapWidthInPixels = width * mapTileWidth;
+        mapHeightInPixels = height * mapTileHeight;
+        flipY = true;
+        convertObjectToTileSpace = false;
+
+        MapProperties mapProperties = map.getProperties();
+        mapProperties.put("width", width);
+        mapProperties.put("height", height);
+        mapProperties.put("tilewidth", mapTileWidth);
+        mapProperties.put("tileheight", mapTileHeight);
+
+        for (Element element : root.getChildrenByName("tileset")) {
+            loadTileSetInfo(element, tmxFile);
+        }
+        for (int i = 0; i < root.getChildCount(); i++) {
+            Element element = root.getChild(i);
+            if (element.getName().equals("layer")) {
+                loadTileLayer(map, element);
+            } else if (element.getName().equals("objectgroup")) {
+                loadObjectGroup(map, element);
+            }
+        }
+
+        ChunkSource source = new TiledMapChunkSource(map);
+        int[] doorLayers = MapGrids.findDoorLayers(source, Level.DOOR_COUNT);
+        Bits blockedTiles = MapGrids.buildBlockedTiles(source,
+                MapGrids.findLayer(source, MapGrids.COLLISION_LAYER), doorLayers);
+        byte[] terrain = MapGrids.buildTerrain(source);
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(binaryFile.write(false)));
+        try {
+            write(out, source, blockedTiles, terrain);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Adds a tile set to the map with a tile for each id, as the TMX loader would, but without loading its image. The
+     * details needed to cut up the image at run time are kept in the tile set's properties.
+     *
+     * @param element the tileset element
+     * @param tmxFile the TMX file
+     * @throws IOException if an external tile set can't be read
+     */
+    private void loadTileSetInfo(Element element, FileHandle tmxFile) throws IOException {
+        int firstGid = element.getIntAttribute("firstgid", 1);
+        FileHandle baseFile = tmxFile;
+        String source = element.getAttribute("source", null);
+        if (source != null) {
+            baseFile = getRelativeFileHandle(tmxFile, source);
+            element = xml.parse(baseFile);
+        }
+
+        int tileWidth = element.getIntAttribute("tilewidth", 0);
+        int tileHeight = element.getIntAttribute("tileheight", 0);
+        int spacing = element.getIntAttribute("spacing", 0);
+        int margin = element.getIntAttribute("margin", 0);
+        Element image = element.getChildByName("image");
+        if (image == null) {
+            throw new GdxRuntimeException("Tile set " + element.get("name", null) + " has no single image to compile");
+        }
+
+        TiledMapTileSet tileSet = new TiledMapTileSet();
+        tileSet.setName(element.get("name", null));
+        MapProperties properties = tileSet.getProperties();
+        properties.put("firstgid", firstGid);
+        properties.put("imagesource", getRelativePath(tmxFile, getRelativeFileHandle(baseFile, image.getAttribute("source"))));
+        properties.put("tilewidth", tileWidth);
+        properties.put("tileheight", tileHeight);
+        properties.put("margin", margin);
+        properties.put("spacing", spacing);
+
+        // Create tiles in the same order as they are cut from the image when loaded.
+        int id = firstGid;
+        int imageWidth = image.getIntAttribute("width"), imageHeight = image.getIntAttribute("height");
+        for (int y = margin; y <= imageHeight - tileHeight; y += tileHeight + spacing) {
+            for (int x = margin; x <= imageWidth - tileWidth; x += tileWidth + spacing) {
+                TiledMapTile tile = new StaticTiledMapTile((TextureRegion) null);
+                tile.setId(id);
+                tileSet.putTile(id++, tile);
+            }
+        }
+
+        for (Element tileElement : element.getChildrenByName("tile")) {
+            TiledMapTile tile = tileSet.getTile(firstGid + tileElement.getIntAttribute("id"));
+            if (tile != null) {
+                String terrain = tileElement.getAttribute("terrain", null);
+                if (terrain != null) {
+                    tile.getProperties().put("terrain", terrain);
+                }
+                String probability = tileElement.getAttribute("probability", null);
+                if (probability != null) {
+                    tile.getProperties().put("probability", probability);
+                }
+                Element tileProperties = tileElement.getChildByName("properties");
+                if (tileProperties != null) {
+                    loadProperties(tile.getProperties(), tileProperties);
+                }
+            }
+        }
+        map.getTileSets().addTileSet(tileSet);
+    }
+
+    /**
+     * Writes the compiled map.
+     *
+     * @param out          the stream to write to
+     * @param source       the tile layers of the map
+     * @param blockedTiles the blocked tile grid
+     * @param terrain      the terrain flag grid
+     * @throws IOException if writing fails
+     */
+    private void write(DataOutputStream out, ChunkSource source, Bits blockedTiles, byte[] terrain) throws IOException {
+        int width = source.getWidth(), height = source.getHeight();
+        out.writeInt(BinaryMapFormat.MAGIC);
+        out.writeInt(BinaryMapFormat.VERSION);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeInt(mapTileWidth);
+        out.writeInt(mapTileHeight);
+
+        Array<TiledMapTileSet> tileSets = new Array<TiledMapTileSet>();
+        for (TiledMapTileSet tileSet : map.getTileSets()) {
+            tileSets.add(tileSet);
+        }
+        out.writeInt(tileSets.size);
+        for (TiledMapTileSet tileSet : tileSets) {
+            MapProperties properties = tileSet.getProperties();
+            writeString(out, tileSet.getName());
+            out.writeInt(properties.get("firstgid", Integer.class));
+            writeString(out, properties.get("imagesource", String.class));
+            out.writeInt(properties.get("tilewidth", Integer.class));
+            out.writeInt(properties.get("tileheight", Integer.class));
+            out.writeInt(properties.get("margin", Integer.class));
+            out.writeInt(properties.get("spacing", Integer.class));
+
+            Array<TiledMapTile> tilesWithProperties = new Array<TiledMapTile>();
+            for (TiledMapTile tile : tileSet) {
+                if (tile.getProperties().getKeys().hasNext()) {
+                    tilesWithProperties.add(tile);
+                }
+            }
+            out.writeInt(tilesWithProperties.size);
+            for (TiledMapTile tile : tilesWithProperties) {
+                out.writeInt(tile.getId());
+                writeProperties(out, tile.getProperties());
+            }
+        }
+
+        out.writeInt(source.getLayerCount());
+        for (int layer = 0; layer < source.getLayerCount(); layer++) {
+            writeString(out, source.getLayerName(layer));
+            out.writeBoolean(source.isLayerVisible(layer));
+            writeProperties(out, source.getLayerProperties(layer));
+        }
+
+        // Only object layers are left in the map once the chunk source has taken the tile layers.
+        out.writeInt(map.getLayers().getCount());
+        for (MapLayer layer : map.getLayers()) {
+            writeString(out, layer.getName());
+            out.writeBoolean(layer.isVisible());
+            writeProperties(out, layer.getProperties());
+
+            Array<RectangleMapObject> objects = layer.getObjects().getByType(RectangleMapObject.class);
+            out.writeInt(objects.size);
+            for (RectangleMapObject object : objects) {
+                Rectangle rectangle = object.getRectangle();
+                writeString(out, object.getName());
+                out.writeBoolean(object.isVisible());
+                out.writeFloat(rectangle.x);
+                out.writeFloat(rectangle.y);
+                out.writeFloat(rectangle.width);
+                out.writeFloat(rectangle.height);
+                writeProperties(out, object.getProperties());
+            }
+        }
+
+        int tileCount = width * height;
+        int wordCount = (tileCount + 63) / 64;
+        out.writeInt(wordCount);
+        for (int word = 0; word < wordCount; word++) {
+            long bits = 0;
+            for (int bit = 0; bit < 64 && word * 64 + bit < tileCount; bit++) {
+                if (blockedTiles.get(word * 64 + bit)) {
+                    bits |= 1L << bit;
+                }
+            }
+            out.writeLong(bits);
+        }
+
+        out.write(terrain);
+        for (int i = out.size(); i % 4 != 0; i++) {
+            out.writeByte(0);
+        }
+
+        for (int layer = 0; layer < source.getLayerCount(); layer++) {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    out.writeInt(source.getTile(layer, x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a set of properties, with every value written as a string.
+     *
+     * @param out        the stream to write to
+     * @param properties the properties
+     * @throws IOException if writing fails
+     */
+    private static void writeProperties(DataOutputStream out, MapProperties properties) throws IOException {
+        Array<String> keys = new Array<String>();
+        for (Iterator<String> it = properties.getKeys(); it.hasNext(); ) {
+            keys.add(it.next());
+        }
+        out.writeInt(keys.size);
+        for (String key : keys) {
+            writeString(out, key);
+            writeString(out, String.valueOf(properties.get(key)));
+        }
+    }
+
+    /**
+     * Writes a string as its length followed by its UTF-8 bytes.
+     *
+     * @param out    the stream to write to
+     * @param string the string, or null to write an empty string
+     * @throws IOException if writing fails
+     */
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = (string != null ? string : "").getBytes("UTF-8");
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Gets the path of a file relative to the directory of the map, which is where the binary map is written.
+     *
+     * @param tmxFile the TMX file
+     * @param file    the file
+     * @return the relative path
+     */
+    private static String getRelativePath(FileHandle tmxFile, FileHandle file) {
+        String base = tmxFile.parent().file().getAbsoluteFile().toURI().normalize().getPath();
+        String path = file.file().getAbsoluteFile().toURI().normalize().getPath();
+        if (!path.startsWith(base)) {
+            throw new GdxRuntimeException(file + " must be in the same directory as the map or below it");
+        }
+        return path.substring(base.length());
+    }
+}
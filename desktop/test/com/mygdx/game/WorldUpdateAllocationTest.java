@@ -0,0 +1,159 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.entity.Direction;
+import com.mygdx.game.entity.EntityFactory;
+import com.mygdx.game.entity.Mappers;
+import com.mygdx.game.entity.components.TileMovementComponent;
+import com.mygdx.game.entity.systems.SimulationLodSystem;
+import com.mygdx.game.objective.WinBattlesObjective;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks that updating the world allocates nothing on the thread running the game once it has warmed up, so a long
+ * session doesn't churn the garbage collector.
+ */
+public class WorldUpdateAllocationTest {
+
+    /**
+     * The fixed step the game updates the world with.
+     */
+    private static final float STEP_TIME = 1 / 60f;
+
+    /**
+     * How many steps to run before measuring, so caches, pools and lazily created objects are filled first. This is long
+     * enough for the JIT to finish compiling the update loop, because the first compile of a class resolves its string
+     * constants on the calling thread and would show up as stray allocations.
+     */
+    private static final int WARM_UP_STEPS = 200000;
+
+    /**
+     * How many steps to measure, as one window.
+     */
+    private static final int MEASURED_STEPS = 20000;
+
+    /**
+     * How far the wandering characters added for the test wander, in tiles.
+     */
+    private static final int WANDER_RADIUS = 3;
+
+    /**
+     * The size of the view the renderer would show around the player, in world units.
+     */
+    private static final float VIEW_WIDTH = 640, VIEW_HEIGHT = 448;
+
+    /**
+     * The headless application the level is created in.
+     */
+    private static HeadlessApplication application;
+
+    /**
+     * Starts a headless application with a GL stub and loads the assets. The assets create textures but nothing is
+     * drawn, so GL calls only need to return something.
+     */
+    @BeforeClass
+    public static void startApplication() {
+        application = new HeadlessApplication(new ApplicationAdapter() {
+        }, new HeadlessApplicationConfiguration());
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class[]{GL20.class}, new InvocationHandler() {
+            private int nextHandle = 1;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                Class<?> type = method.getReturnType();
+                if (type == int.class) {
+                    return nextHandle++;
+                } else if (type == boolean.class) {
+                    return false;
+                } else if (type == float.class) {
+                    return 0f;
+                } else if (type == String.class) {
+                    return "";
+                }
+                return null;
+            }
+        });
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        Assets.load();
+    }
+
+    /**
+     * Stops the headless application.
+     */
+    @AfterClass
+    public static void stopApplication() {
+        application.exit();
+    }
+
+    /**
+     * Walks the player back and forth past wandering characters and checks the steps allocate no bytes.
+     */
+    @Test
+    public void worldUpdateDoesNotAllocate() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported());
+        allocations.setThreadAllocatedMemoryEnabled(true);
+
+        Game.segment = 0;
+        Game.objective = new WinBattlesObjective(1);
+        Level level = new Level();
+        TileMovementComponent playerMovement = Mappers.movement.get(level.player);
+        for (int i = -1; i <= 1; i += 2) {
+            Entity npc = EntityFactory.createNPC(playerMovement.tileX + i * 2, playerMovement.tileY + 2, Assets.sallyWalkingTextures, null);
+            level.addEntity(EntityFactory.addWander(npc, WANDER_RADIUS));
+        }
+
+        try {
+            for (int i = 0; i < WARM_UP_STEPS; i++) {
+                step(level, i);
+            }
+
+            long threadId = Thread.currentThread().getId();
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_STEPS; i++) {
+                step(level, WARM_UP_STEPS + i);
+            }
+            long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+
+            assertEquals("Bytes allocated over " + MEASURED_STEPS + " world updates", 0, allocated);
+        } finally {
+            level.dispose();
+        }
+    }
+
+    /**
+     * Runs one world update, moving the player left for a second and then right for a second. The view is centred on
+     * the player first, as the renderer would do each frame.
+     *
+     * @param level the level to update
+     * @param step  the number of the step
+     */
+    private static void step(Level level, int step) {
+        TileMovementComponent movement = Mappers.movement.get(level.player);
+        if (!movement.moving) {
+            movement.intent = (step / 60) % 2 == 0 ? Direction.LEFT : Direction.RIGHT;
+        }
+        level.engine.getSystem(SimulationLodSystem.class).setView(movement.x - VIEW_WIDTH / 2,
+                movement.y - VIEW_HEIGHT / 2, VIEW_WIDTH, VIEW_HEIGHT);
+        level.update(STEP_TIME);
+    }
+}